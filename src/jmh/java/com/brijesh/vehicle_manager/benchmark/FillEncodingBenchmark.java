@@ -0,0 +1,89 @@
+package com.brijesh.vehicle_manager.benchmark;
+
+import com.brijesh.vehicle_manager.dto.FuelFillResponse;
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import com.brijesh.vehicle_manager.mapper.FuelFillMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoding a 1000-fill list (GET /api/fuel/vehicle/{id}) in each negotiable shape, mapping included.
+ * Payload sizes, raw and gzipped, are printed once in setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FillEncodingBenchmark {
+
+    private final FuelFillMapper mapper = new FuelFillMapper();
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private ObjectMapper smile;
+    private UUID vehicleId;
+    private List<FuelFill> fills;
+
+    @Setup
+    public void setup() throws IOException {
+        // same builder the app's converters are made from
+        json = new Jackson2ObjectMapperBuilder().build();
+        cbor = new Jackson2ObjectMapperBuilder().factory(new CBORFactory()).build();
+        smile = new Jackson2ObjectMapperBuilder().factory(new SmileFactory()).build();
+        vehicleId = UUID.randomUUID();
+        fills = SyntheticHistory.fills(vehicleId, 1000);
+
+        printSize("json rows", jsonRows());
+        printSize("json columnar", jsonColumnar());
+        printSize("cbor rows", cborRows());
+        printSize("smile rows", smileRows());
+    }
+
+    @Benchmark
+    public byte[] jsonRows() throws IOException {
+        return json.writeValueAsBytes(rows());
+    }
+
+    @Benchmark
+    public byte[] jsonColumnar() throws IOException {
+        return json.writeValueAsBytes(mapper.toColumns(vehicleId, fills));
+    }
+
+    @Benchmark
+    public byte[] cborRows() throws IOException {
+        return cbor.writeValueAsBytes(rows());
+    }
+
+    @Benchmark
+    public byte[] smileRows() throws IOException {
+        return smile.writeValueAsBytes(rows());
+    }
+
+    private List<FuelFillResponse> rows() {
+        List<FuelFillResponse> out = new ArrayList<>(fills.size());
+        for (FuelFill f : fills) {
+            out.add(mapper.toResponse(f));
+        }
+        return out;
+    }
+
+    private static void printSize(String name, byte[] body) throws IOException {
+        ByteArrayOutputStream gz = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gz)) {
+            out.write(body);
+        }
+        System.out.printf("%-14s %8d bytes, %7d gzipped%n", name, body.length, gz.size());
+    }
+}
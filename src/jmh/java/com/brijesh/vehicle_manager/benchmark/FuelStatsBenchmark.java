@@ -0,0 +1,89 @@
+package com.brijesh.vehicle_manager.benchmark;
+
+import com.brijesh.vehicle_manager.dto.VehicleFuelStatsResponse;
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import com.brijesh.vehicle_manager.entity.VehicleFuelStats;
+import com.brijesh.vehicle_manager.mapper.FuelStatsMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stats endpoint work over synthetic histories, no database: the response built from the stored aggregate
+ * (what FuelFillServiceImpl.computeVehicleStats does after its ownership-cache and findById hits), the old
+ * full-history reduction it replaced, and rebuilding the aggregate from a history.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuelStatsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int historySize;
+
+    private UUID vehicleId;
+    private List<FuelFill> history;
+    private VehicleFuelStats stats;
+
+    @Setup
+    public void setup() {
+        vehicleId = UUID.randomUUID();
+        history = SyntheticHistory.fills(vehicleId, historySize);
+
+        stats = VehicleFuelStats.empty(vehicleId);
+        history.forEach(stats::apply);
+    }
+
+    @Benchmark
+    public VehicleFuelStatsResponse statsFromAggregate() {
+        return FuelStatsMapper.toResponse(stats);
+    }
+
+    @Benchmark
+    public VehicleFuelStats rebuildAggregate() {
+        VehicleFuelStats rebuilt = VehicleFuelStats.empty(vehicleId);
+        for (FuelFill f : history) {
+            rebuilt.apply(f);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * The pre-aggregate computeVehicleStats body, kept as the baseline.
+     */
+    @Benchmark
+    public VehicleFuelStatsResponse fullHistoryReduce() {
+        BigDecimal totalFuel = history.stream()
+                .map(f -> f.getFuelVolume() == null ? BigDecimal.ZERO : f.getFuelVolume())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCost = history.stream()
+                .map(f -> f.getTotalAmount() == null ? BigDecimal.ZERO : f.getTotalAmount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalDistance = 0L;
+        if (history.size() >= 2) {
+            totalDistance = history.get(history.size() - 1).getOdometerReading() - history.get(0).getOdometerReading();
+        }
+        BigDecimal averageMileage = null;
+        if (totalFuel.compareTo(BigDecimal.ZERO) > 0) {
+            averageMileage = BigDecimal.valueOf(totalDistance).divide(totalFuel, 6, RoundingMode.HALF_UP).setScale(3, RoundingMode.HALF_UP);
+        }
+        BigDecimal costPerKm = null;
+        if (totalDistance > 0) {
+            costPerKm = totalCost.divide(BigDecimal.valueOf(totalDistance), 6, RoundingMode.HALF_UP).setScale(2, RoundingMode.HALF_UP);
+        }
+        return VehicleFuelStatsResponse.builder()
+                .totalFuel(totalFuel.setScale(3, RoundingMode.HALF_UP))
+                .totalCost(totalCost.setScale(2, RoundingMode.HALF_UP))
+                .totalDistance(totalDistance)
+                .averageMileage(averageMileage)
+                .costPerKm(costPerKm)
+                .build();
+    }
+}
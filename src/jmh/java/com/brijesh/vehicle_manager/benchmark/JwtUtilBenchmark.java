@@ -0,0 +1,72 @@
+package com.brijesh.vehicle_manager.benchmark;
+
+import com.brijesh.vehicle_manager.util.JwtUtil;
+import com.brijesh.vehicle_manager.util.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request:
+ * - parseRebuildParser: what the filter did before (new parser per call)
+ * - parseSharedParser: one immutable parser, signature still checked every time
+ * - verifyCached: repeat request with a token already in VerifiedTokenCache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "my-super-secret-dev-key-1234567890!!";
+
+    private Key key;
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache cache;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil(SECRET, 3600, 1209600);
+        jwtUtil.init();
+        cache = new VerifiedTokenCache(jwtUtil, 10_000);
+        userId = UUID.randomUUID();
+        token = jwtUtil.generateAccessToken(userId);
+        cache.verify(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(userId);
+    }
+
+    @Benchmark
+    public UUID parseRebuildParser() {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return UUID.fromString(claims.getSubject());
+    }
+
+    @Benchmark
+    public UUID parseSharedParser() {
+        return jwtUtil.parseTokenSubject(token);
+    }
+
+    @Benchmark
+    public UUID verifyCached() {
+        return cache.verify(token).subject();
+    }
+}
@@ -0,0 +1,81 @@
+package com.brijesh.vehicle_manager.benchmark;
+
+import com.brijesh.vehicle_manager.dto.FuelFillResponse;
+import com.brijesh.vehicle_manager.dto.VehicleCreateRequest;
+import com.brijesh.vehicle_manager.dto.VehicleResponse;
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import com.brijesh.vehicle_manager.entity.FuelType;
+import com.brijesh.vehicle_manager.entity.Vehicle;
+import com.brijesh.vehicle_manager.entity.VehicleType;
+import com.brijesh.vehicle_manager.mapper.FuelFillMapper;
+import com.brijesh.vehicle_manager.mapper.VehicleMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO conversions done on every read, per object and for a 1000-fill list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final FuelFillMapper fuelFillMapper = new FuelFillMapper();
+    private UUID ownerId;
+    private VehicleCreateRequest createRequest;
+    private Vehicle vehicle;
+    private FuelFill fill;
+    private List<FuelFill> fills;
+
+    @Setup
+    public void setup() {
+        ownerId = UUID.randomUUID();
+        createRequest = VehicleCreateRequest.builder()
+                .nickname("Daily")
+                .registrationNumber("KA01AB1234")
+                .make("Maruti")
+                .model("Swift")
+                .yearOfManufacture(2019)
+                .vehicleType(VehicleType.CAR)
+                .fuelType(FuelType.PETROL)
+                .purchaseDate(LocalDate.of(2019, 6, 1))
+                .initialOdometer(10L)
+                .currentOdometer(42_000L)
+                .build();
+        vehicle = VehicleMapper.fromCreate(ownerId, createRequest);
+        fills = SyntheticHistory.fills(vehicle.getId(), 1000);
+        fill = fills.get(fills.size() - 1);
+    }
+
+    @Benchmark
+    public Vehicle vehicleFromCreate() {
+        return VehicleMapper.fromCreate(ownerId, createRequest);
+    }
+
+    @Benchmark
+    public VehicleResponse vehicleToResponse() {
+        return VehicleMapper.toResponse(vehicle);
+    }
+
+    @Benchmark
+    public FuelFillResponse fuelFillToResponse() {
+        return fuelFillMapper.toResponse(fill);
+    }
+
+    @Benchmark
+    public List<FuelFillResponse> fuelFillListToResponse() {
+        List<FuelFillResponse> out = new ArrayList<>(fills.size());
+        for (FuelFill f : fills) {
+            out.add(fuelFillMapper.toResponse(f));
+        }
+        return out;
+    }
+}
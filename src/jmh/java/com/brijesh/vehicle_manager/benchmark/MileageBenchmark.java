@@ -0,0 +1,100 @@
+package com.brijesh.vehicle_manager.benchmark;
+
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import com.brijesh.vehicle_manager.util.MileageCalculator;
+import com.brijesh.vehicle_manager.util.MileageUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * MileageUtil (BigDecimal) against MileageCalculator (fixed point) for the per-fill math,
+ * and rolling averages over the 5-fill window versus over a whole history (the old write path).
+ * Only the full-history case depends on historySize, so the parameter lives on its own state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MileageBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Fill {
+        BigDecimal liters;
+        BigDecimal price;
+
+        @Setup
+        public void setup() {
+            liters = new BigDecimal("32.415");
+            price = new BigDecimal("102.37");
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Window {
+        List<FuelFill> fills;
+
+        @Setup
+        public void setup() {
+            fills = SyntheticHistory.fills(UUID.randomUUID(), 100).stream()
+                    .filter(f -> f.getMileage() != null)
+                    .sorted(Comparator.comparing(FuelFill::getFillDate).reversed())
+                    .limit(5)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class History {
+        @Param({"10", "1000", "100000"})
+        public int historySize;
+
+        List<FuelFill> fills;
+
+        @Setup
+        public void setup() {
+            fills = SyntheticHistory.fills(UUID.randomUUID(), historySize);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal mileageUtilComputeMileage(Fill fill) {
+        return MileageUtil.computeMileage(412, fill.liters);
+    }
+
+    @Benchmark
+    public BigDecimal calculatorComputeMileage(Fill fill) {
+        return MileageCalculator.computeMileage(412, fill.liters);
+    }
+
+    @Benchmark
+    public BigDecimal mileageUtilMultiply(Fill fill) {
+        return MileageUtil.multiply(fill.liters, fill.price);
+    }
+
+    @Benchmark
+    public BigDecimal calculatorMultiply(Fill fill) {
+        return MileageCalculator.multiply(fill.liters, fill.price);
+    }
+
+    @Benchmark
+    public BigDecimal mileageUtilRollingFullHistory(History history) {
+        return MileageUtil.rollingAvgMileage(history.fills, 5);
+    }
+
+    @Benchmark
+    public BigDecimal mileageUtilRollingWindow(Window window) {
+        return MileageUtil.rollingAvgMileage(window.fills, 5);
+    }
+
+    @Benchmark
+    public BigDecimal calculatorRollingWindow(Window window) {
+        return MileageCalculator.rollingAvgMileage(window.fills, 5);
+    }
+}
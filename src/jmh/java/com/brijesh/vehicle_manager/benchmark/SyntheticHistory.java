@@ -0,0 +1,49 @@
+package com.brijesh.vehicle_manager.benchmark;
+
+import com.brijesh.vehicle_manager.entity.FuelFill;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic fill histories shaped like real data: one fill every few days, odometer always increasing,
+ * volumes/prices with the same scales as the database columns.
+ */
+final class SyntheticHistory {
+
+    private SyntheticHistory() {}
+
+    static List<FuelFill> fills(UUID vehicleId, int count) {
+        Random random = new Random(count);
+        List<FuelFill> fills = new ArrayList<>(count);
+        LocalDate date = LocalDate.of(2000, 1, 1);
+        long odometer = 1_000;
+        for (int i = 0; i < count; i++) {
+            long distance = 150 + random.nextInt(400);
+            BigDecimal volume = BigDecimal.valueOf(5_000 + random.nextInt(40_000), 3);
+            BigDecimal price = BigDecimal.valueOf(9_000 + random.nextInt(2_000), 2);
+            odometer += distance;
+            date = date.plusDays(1 + random.nextInt(5));
+            fills.add(FuelFill.builder()
+                    .id(UUID.randomUUID())
+                    .userId(vehicleId)
+                    .vehicleId(vehicleId)
+                    .fillDate(date)
+                    .odometerReading(odometer)
+                    .fuelVolume(volume)
+                    .pricePerLiter(price)
+                    .totalAmount(volume.multiply(price).setScale(2, RoundingMode.HALF_UP))
+                    .mileage(i == 0 ? null : BigDecimal.valueOf(distance).divide(volume, 3, RoundingMode.HALF_UP))
+                    .estimated(false)
+                    .createdAt(Instant.EPOCH)
+                    .build());
+        }
+        return fills;
+    }
+}
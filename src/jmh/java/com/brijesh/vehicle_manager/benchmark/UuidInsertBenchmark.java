@@ -0,0 +1,91 @@
+package com.brijesh.vehicle_manager.benchmark;
+
+import com.brijesh.vehicle_manager.util.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batched inserts into a fuel_fills-shaped table keyed by BINARY(16), random (v4) vs time-ordered (v7) ids.
+ * The table is preloaded so inserts go into a deep index, and keeps growing during the run like the real one.
+ * Embedded H2 (MySQL mode) stands in for InnoDB: both keep the primary key in a B-tree, where random keys
+ * touch a different leaf on every insert and v7 keys append at the right edge.
+ * Single iterations still dip when a large collection lands in them, so compare the per-fork medians as well as
+ * the mean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+// the table lives on the heap and grows by millions of rows: a fixed heap keeps resizing out of the samples
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 1000;
+    private static final int PRELOAD = 500_000;
+
+    @Param({"random", "v7"})
+    public String ids;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private byte[] vehicleId;
+    private long odometer;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:uuid_" + ids + ";MODE=MySQL", "sa", "");
+        try (Statement st = connection.createStatement()) {
+            st.execute("create table fuel_fills (id binary(16) primary key, vehicle_id binary(16) not null, " +
+                    "odometer_reading bigint, fuel_volume decimal(10,3))");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(
+                "insert into fuel_fills (id, vehicle_id, odometer_reading, fuel_volume) values (?, ?, ?, ?)");
+        vehicleId = bytes(UUID.randomUUID());
+        for (int i = 0; i < PRELOAD / BATCH; i++) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    // One batch of BATCH rows in one transaction, as the fill import writes them
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setBytes(1, bytes(nextId()));
+            insert.setBytes(2, vehicleId);
+            insert.setLong(3, ++odometer);
+            insert.setBigDecimal(4, BigDecimal.TEN);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    private UUID nextId() {
+        return ids.equals("v7") ? UuidV7.generate() : UUID.randomUUID();
+    }
+
+    // Same byte layout Hibernate uses for UUID -> BINARY(16)
+    private static byte[] bytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,75 @@
+package com.brijesh.vehicle_manager.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends @Transactional(readOnly = true) work to read replicas, everything else to the primary (spring.datasource).
+ * The LazyConnectionDataSourceProxy defers fetching a connection until the first statement, by which point the
+ * transaction manager has marked it read-only, and then takes it from the {@link ReplicaDataSource}.
+ * Off by default; enable with app.datasource.replicas.enabled and a comma-separated list of replica JDBC URLs.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    // same pool Boot would build, still bound to spring.datasource.hikari.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                              DataSourceProperties properties,
+                                              MeterRegistry meterRegistry,
+                                              @Value("${app.datasource.replicas.urls}") String[] urls,
+                                              @Value("${app.datasource.replicas.pool-size:10}") int poolSize,
+                                              @Value("${app.datasource.replicas.connection-timeout:2s}") Duration connectionTimeout,
+                                              @Value("${app.datasource.replicas.retry-after:30s}") Duration retryAfter,
+                                              @Value("${app.datasource.replicas.read-your-writes:5s}") Duration readYourWrites) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + (replicas.size() + 1));
+            config.setJdbcUrl(url.trim());
+            config.setUsername(properties.determineUsername());
+            config.setPassword(properties.determinePassword());
+            config.setMaximumPoolSize(poolSize);
+            config.setReadOnly(true);
+            // fail over to the next replica quickly instead of waiting out the primary's timeout
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            // start even while a replica is down; it is retried after retry-after
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaDataSource(primaryDataSource, replicas, retryAfter, readYourWrites, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaDataSource.writeTracking());
+        proxy.setReadOnlyDataSource(replicaDataSource);
+        return proxy;
+    }
+}
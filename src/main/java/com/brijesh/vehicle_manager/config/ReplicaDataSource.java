@@ -0,0 +1,149 @@
+package com.brijesh.vehicle_manager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Read-only target of the routing proxy built in {@link ReadReplicaConfig}: hands out replica connections
+ * round-robin, skipping a replica for app.datasource.replicas.retry-after once it fails to connect and
+ * falling back to the primary when none is available.
+ * Staleness guard: a user whose write transaction touched the primary within app.datasource.replicas.read-your-writes
+ * reads from the primary too, so their own changes never disappear behind replication lag.
+ * Users are identified by the authenticated principal (the user id set by the JWT filter); reads without one
+ * (schedulers, login) have no guard.
+ * The guard is per instance: a write on one instance followed by a read that lands on another is served by a
+ * replica. Route each user to one instance (sticky load balancing) where that matters, and keep reads that must
+ * never be stale (sync cursors) in read-write transactions.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final long retryAfterMillis;
+    // epoch millis until which replica i is skipped
+    private final AtomicLongArray downUntil;
+    private final AtomicInteger next = new AtomicInteger();
+    // user ids (principal names) with a recent write; presence is all that matters
+    private final Cache<String, Boolean> recentWriters;
+
+    private final Counter replicaReads;
+    private final Counter recentWriteReads;
+    private final Counter fallbackReads;
+
+    public ReplicaDataSource(DataSource primary, List<HikariDataSource> replicas, Duration retryAfter,
+                             Duration readYourWrites, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.retryAfterMillis = retryAfter.toMillis();
+        this.downUntil = new AtomicLongArray(replicas.size());
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWrites)
+                .maximumSize(100_000)
+                .build();
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.recentWriteReads = readCounter(meterRegistry, "primary-recent-write");
+        this.fallbackReads = readCounter(meterRegistry, "primary-fallback");
+    }
+
+    private static Counter readCounter(MeterRegistry registry, String target) {
+        return Counter.builder("datasource.readonly.connections")
+                .description("Connections opened for read-only transactions, by where they were routed")
+                .tag("target", target)
+                .register(registry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String user = currentUser();
+        if (user != null && recentWriters.getIfPresent(user) != null) {
+            recentWriteReads.increment();
+            return primary.getConnection();
+        }
+
+        long now = System.currentTimeMillis();
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            int i = Math.floorMod(next.getAndIncrement(), replicas.size());
+            if (downUntil.get(i) > now) continue;
+            HikariDataSource replica = replicas.get(i);
+            try {
+                Connection con = replica.getConnection();
+                replicaReads.increment();
+                return con;
+            } catch (SQLException ex) {
+                downUntil.set(i, now + retryAfterMillis);
+                log.warn("Replica {} unavailable, skipping it for {} ms: {}",
+                        replica.getPoolName(), retryAfterMillis, ex.getMessage());
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // pools are configured with their own credentials
+        return getConnection();
+    }
+
+    /**
+     * The primary, wrapped so that connections taken for a read-write transaction mark the current user
+     * as a recent writer; the window restarts at commit, when the write becomes visible to replication.
+     */
+    public DataSource writeTracking() {
+        return new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                noteWrite();
+                return super.getConnection();
+            }
+        };
+    }
+
+    private void noteWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        String user = currentUser();
+        if (user == null) return;
+        recentWriters.put(user, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) recentWriters.put(user, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth == null || auth instanceof AnonymousAuthenticationToken ? null : auth.getName();
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
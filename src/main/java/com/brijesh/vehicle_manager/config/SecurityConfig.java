@@ -1,7 +1,10 @@
 package com.brijesh.vehicle_manager.config;
 
+import com.brijesh.vehicle_manager.service.AccessTokenRevocations;
 import com.brijesh.vehicle_manager.util.JwtUtil;
+import com.brijesh.vehicle_manager.util.VerifiedTokenCache;
 import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -31,10 +34,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 public class SecurityConfig {
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache tokenCache;
+    private final AccessTokenRevocations revocations;
 
-    public SecurityConfig(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
+    public SecurityConfig(VerifiedTokenCache tokenCache, AccessTokenRevocations revocations) {
+        this.tokenCache = tokenCache;
+        this.revocations = revocations;
     }
 
     @Bean
@@ -80,7 +85,17 @@ public class SecurityConfig {
                     String token = header.substring(7);
 
                     try {
-                        UUID userId = jwtUtil.parseTokenSubject(token);
+                        // cached per token until it expires, so repeat requests skip signature verification
+                        JwtUtil.VerifiedToken verified = tokenCache.verify(token);
+                        // a refresh token is validly signed too, but must never work as a bearer credential
+                        if (!verified.isAccessToken()) {
+                            throw new JwtException("Not an access token");
+                        }
+                        UUID userId = verified.subject();
+                        // in-memory watermark check, no DB query per request
+                        if (revocations.isRevoked(userId, verified.issuedAt())) {
+                            throw new JwtException("Token revoked");
+                        }
 
                         var auth = new UsernamePasswordAuthenticationToken(
                                 userId.toString(),
@@ -103,8 +118,9 @@ public class SecurityConfig {
         };
     }
 
+    // Raising the strength re-hashes existing passwords on their next successful login
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,82 @@
+package com.brijesh.vehicle_manager.controller;
+
+import com.brijesh.vehicle_manager.util.ETags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strong ETags for responses the CBOR/Smile converters can also write: one version, different bytes per encoding,
+ * so each encoding gets its own tag. The encoding is the media type the message converters will select, worked out
+ * the way Spring MVC does it (same converters, same Accept parsing, quality and specificity ordering) but before the
+ * body is loaded, so If-None-Match is still answered from the version alone.
+ */
+@Component
+@RequiredArgsConstructor
+class EncodingETags {
+
+    static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final ContentNegotiationManager contentNegotiationManager;
+    private final HttpMessageConverters messageConverters;
+
+    /**
+     * The tag for the encoding this request will get (null stays null); also sets Vary: Accept, on 304s as well.
+     */
+    String tag(String etag, Class<?> bodyType, NativeWebRequest request) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null && !response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        if (etag == null) return null;
+
+        MediaType selected = negotiate(bodyType, request);
+        if (selected == null) return etag;
+        if (MediaType.APPLICATION_CBOR.isCompatibleWith(selected)) return ETags.variant(etag, "cbor");
+        if (SMILE.isCompatibleWith(selected)) return ETags.variant(etag, "smile");
+        return etag;
+    }
+
+    // AbstractMessageConverterMethodProcessor's selection; null when nothing is acceptable (406 follows anyway)
+    MediaType negotiate(Class<?> bodyType, NativeWebRequest request) {
+        List<MediaType> acceptable;
+        try {
+            acceptable = contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException ex) {
+            return null;
+        }
+
+        List<MediaType> producible = new ArrayList<>();
+        for (HttpMessageConverter<?> converter : messageConverters.getConverters()) {
+            if (converter.canWrite(bodyType, null)) producible.addAll(converter.getSupportedMediaTypes(bodyType));
+        }
+
+        List<MediaType> compatible = new ArrayList<>();
+        for (MediaType accept : acceptable) {
+            for (MediaType produce : producible) {
+                if (accept.isCompatibleWith(produce)) compatible.add(mostSpecific(accept, produce));
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+        for (MediaType mediaType : compatible) {
+            if (mediaType.isConcrete()) return mediaType;
+        }
+        return null;
+    }
+
+    private static MediaType mostSpecific(MediaType accept, MediaType produce) {
+        MediaType produceToUse = produce.copyQualityValue(accept);
+        return accept.isLessSpecific(produceToUse) ? produceToUse : accept;
+    }
+}
@@ -1,14 +1,26 @@
 package com.brijesh.vehicle_manager.controller;
 
+import com.brijesh.vehicle_manager.dto.FleetVehicleStatsResponse;
+import com.brijesh.vehicle_manager.dto.FuelFillColumnsResponse;
 import com.brijesh.vehicle_manager.dto.FuelFillCreateRequest;
+import com.brijesh.vehicle_manager.dto.FuelFillImportRequest;
+import com.brijesh.vehicle_manager.dto.FuelFillImportResponse;
+import com.brijesh.vehicle_manager.dto.FuelFillPageResponse;
 import com.brijesh.vehicle_manager.dto.FuelFillResponse;
 import com.brijesh.vehicle_manager.dto.VehicleFuelStatsResponse;
 import com.brijesh.vehicle_manager.service.FuelFillService;
+import com.brijesh.vehicle_manager.util.ETags;
+import com.brijesh.vehicle_manager.util.FuelFillExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,6 +31,8 @@ import java.util.UUID;
 public class FuelFillController {
 
     private final FuelFillService fuelFillService;
+    private final ObjectMapper objectMapper;
+    private final EncodingETags encodingETags;
 
     // Create fill (auth required)
     @PostMapping("/add")
@@ -29,15 +43,84 @@ public class FuelFillController {
         return ResponseEntity.ok(resp);
     }
 
-    // List fills for vehicle (auth required)
+    // Bulk import of historical fills; rows that fail are reported by their index
+    @PostMapping("/import")
+    public ResponseEntity<FuelFillImportResponse> importFills(Authentication auth,
+                                                              @Valid @RequestBody FuelFillImportRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        FuelFillImportResponse resp = fuelFillService.importFills(userId, req.getFills());
+        return ResponseEntity.ok(resp);
+    }
+
+    // List fills for vehicle (auth required); If-None-Match is answered with 304 from the aggregate's version
     @GetMapping("/vehicle/{vehicleId}")
     public ResponseEntity<List<FuelFillResponse>> getFills(Authentication auth,
-                                                           @PathVariable UUID vehicleId) {
+                                                           @PathVariable UUID vehicleId,
+                                                           NativeWebRequest request) {
         UUID userId = UUID.fromString(auth.getName());
+        String etag = encodingETags.tag(fuelFillService.getFillsETag(userId, vehicleId), List.class, request);
+        if (etag != null && request.checkNotModified(etag)) return null;
         List<FuelFillResponse> resp = fuelFillService.getFillsForVehicle(userId, vehicleId);
+        return etag == null
+                ? ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(resp)
+                : ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(resp);
+    }
+
+    // Same list in columnar shape, chosen with Accept: application/vnd.vehicle-manager.fills-columnar+json
+    @GetMapping(value = "/vehicle/{vehicleId}", produces = FuelFillColumnsResponse.MEDIA_TYPE)
+    public ResponseEntity<FuelFillColumnsResponse> getFillColumns(Authentication auth,
+                                                                  @PathVariable UUID vehicleId,
+                                                                  NativeWebRequest request) {
+        UUID userId = UUID.fromString(auth.getName());
+        String etag = fuelFillService.getFillsETag(userId, vehicleId);
+        if (etag != null) etag = ETags.variant(etag, "columnar");
+        if (etag != null && request.checkNotModified(etag)) return null;
+        FuelFillColumnsResponse resp = fuelFillService.getFillColumnsForVehicle(userId, vehicleId);
+        return etag == null
+                ? ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(resp)
+                : ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(resp);
+    }
+
+    // Paginated fills for vehicle: ?size=50&order=desc|asc&cursor=<nextCursor from previous page>
+    @GetMapping("/vehicle/{vehicleId}/page")
+    public ResponseEntity<FuelFillPageResponse> getFillsPage(Authentication auth,
+                                                             @PathVariable UUID vehicleId,
+                                                             @RequestParam(defaultValue = "50") int size,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "desc") String order) {
+        UUID userId = UUID.fromString(auth.getName());
+        boolean newestFirst;
+        if ("desc".equalsIgnoreCase(order)) newestFirst = true;
+        else if ("asc".equalsIgnoreCase(order)) newestFirst = false;
+        else throw new IllegalArgumentException("order must be 'asc' or 'desc'");
+
+        FuelFillPageResponse resp = fuelFillService.getFillsPage(userId, vehicleId, size, cursor, newestFirst);
         return ResponseEntity.ok(resp);
     }
 
+    // Export full history as NDJSON or CSV, streamed row by row (?format=ndjson|csv)
+    @GetMapping("/vehicle/{vehicleId}/export")
+    public ResponseEntity<StreamingResponseBody> exportFills(Authentication auth,
+                                                             @PathVariable UUID vehicleId,
+                                                             @RequestParam(defaultValue = "ndjson") String format) {
+        UUID userId = UUID.fromString(auth.getName());
+        FuelFillExportWriter.Format fmt = FuelFillExportWriter.Format.parse(format);
+
+        // fail with a proper status before the response is committed
+        fuelFillService.verifyVehicleAccess(userId, vehicleId);
+
+        StreamingResponseBody body = out -> {
+            try (FuelFillExportWriter writer = new FuelFillExportWriter(fmt, out, objectMapper)) {
+                fuelFillService.exportFills(userId, vehicleId, writer::write);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fmt.contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"fuel-fills-" + vehicleId + "." + fmt.extension + "\"")
+                .body(body);
+    }
+
     // Stats for vehicle
     @GetMapping("/vehicle/{vehicleId}/stats")
     public ResponseEntity<VehicleFuelStatsResponse> getStats(Authentication auth,
@@ -46,5 +129,11 @@ public class FuelFillController {
         VehicleFuelStatsResponse stats = fuelFillService.computeVehicleStats(userId, vehicleId);
         return ResponseEntity.ok(stats);
     }
-}
 
+    // Stats for every vehicle of the user in one call (fleet dashboard)
+    @GetMapping("/fleet/stats")
+    public ResponseEntity<List<FleetVehicleStatsResponse>> getFleetStats(Authentication auth) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(fuelFillService.computeFleetStats(userId));
+    }
+}
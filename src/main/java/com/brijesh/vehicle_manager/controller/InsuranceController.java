@@ -0,0 +1,48 @@
+package com.brijesh.vehicle_manager.controller;
+
+import com.brijesh.vehicle_manager.dto.InsuranceRequest;
+import com.brijesh.vehicle_manager.dto.InsuranceResponse;
+import com.brijesh.vehicle_manager.service.InsuranceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/insurance")
+@RequiredArgsConstructor
+public class InsuranceController {
+
+    private final InsuranceService insuranceService;
+
+    @PostMapping
+    public ResponseEntity<InsuranceResponse> create(Authentication auth, @Valid @RequestBody InsuranceRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(insuranceService.createPolicy(userId, req));
+    }
+
+    // Policies of one vehicle, soonest expiry first: ?vehicleId=
+    @GetMapping
+    public ResponseEntity<List<InsuranceResponse>> list(Authentication auth, @RequestParam UUID vehicleId) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(insuranceService.listPolicies(userId, vehicleId));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<InsuranceResponse> update(Authentication auth, @PathVariable UUID id,
+                                                    @Valid @RequestBody InsuranceRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(insuranceService.updatePolicy(userId, id, req));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(Authentication auth, @PathVariable UUID id) {
+        UUID userId = UUID.fromString(auth.getName());
+        insuranceService.deletePolicy(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,4 +1,58 @@
 package com.brijesh.vehicle_manager.controller;
 
+import com.brijesh.vehicle_manager.dto.MaintenanceCompleteRequest;
+import com.brijesh.vehicle_manager.dto.MaintenanceRuleRequest;
+import com.brijesh.vehicle_manager.dto.MaintenanceRuleResponse;
+import com.brijesh.vehicle_manager.service.MaintenanceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/maintenance/rules")
+@RequiredArgsConstructor
 public class MaintenanceController {
+
+    private final MaintenanceService maintenanceService;
+
+    @PostMapping
+    public ResponseEntity<MaintenanceRuleResponse> create(Authentication auth, @Valid @RequestBody MaintenanceRuleRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(maintenanceService.createRule(userId, req));
+    }
+
+    // Rules of one vehicle with their due state: ?vehicleId=
+    @GetMapping
+    public ResponseEntity<List<MaintenanceRuleResponse>> list(Authentication auth, @RequestParam UUID vehicleId) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(maintenanceService.listRules(userId, vehicleId));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<MaintenanceRuleResponse> update(Authentication auth, @PathVariable UUID id,
+                                                          @Valid @RequestBody MaintenanceRuleRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(maintenanceService.updateRule(userId, id, req));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(Authentication auth, @PathVariable UUID id) {
+        UUID userId = UUID.fromString(auth.getName());
+        maintenanceService.deleteRule(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Record the service as done; body is optional (defaults to current odometer and today)
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<MaintenanceRuleResponse> complete(Authentication auth, @PathVariable UUID id,
+                                                            @Valid @RequestBody(required = false) MaintenanceCompleteRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        MaintenanceCompleteRequest body = req != null ? req : new MaintenanceCompleteRequest();
+        return ResponseEntity.ok(maintenanceService.completeRule(userId, id, body));
+    }
 }
@@ -0,0 +1,49 @@
+package com.brijesh.vehicle_manager.controller;
+
+import com.brijesh.vehicle_manager.dto.ReminderCreateRequest;
+import com.brijesh.vehicle_manager.dto.ReminderLogResponse;
+import com.brijesh.vehicle_manager.dto.ReminderResponse;
+import com.brijesh.vehicle_manager.service.ReminderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/reminders")
+@RequiredArgsConstructor
+public class ReminderController {
+
+    private final ReminderService reminderService;
+
+    @PostMapping
+    public ResponseEntity<ReminderResponse> create(Authentication auth, @Valid @RequestBody ReminderCreateRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(reminderService.createReminder(userId, req));
+    }
+
+    // Reminders of one vehicle: ?vehicleId=
+    @GetMapping
+    public ResponseEntity<List<ReminderResponse>> list(Authentication auth, @RequestParam UUID vehicleId) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(reminderService.listReminders(userId, vehicleId));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(Authentication auth, @PathVariable UUID id) {
+        UUID userId = UUID.fromString(auth.getName());
+        reminderService.deleteReminder(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Most recently fired reminders of the user
+    @GetMapping("/log")
+    public ResponseEntity<List<ReminderLogResponse>> log(Authentication auth, @RequestParam(defaultValue = "50") int limit) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(reminderService.recentFired(userId, limit));
+    }
+}
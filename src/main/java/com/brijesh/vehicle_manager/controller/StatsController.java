@@ -1,4 +1,43 @@
 package com.brijesh.vehicle_manager.controller;
 
+import com.brijesh.vehicle_manager.dto.MonthlyFuelStatsResponse;
+import com.brijesh.vehicle_manager.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
 public class StatsController {
+
+    private final StatsService statsService;
+
+    // Monthly totals across the user's vehicles: ?from=2024-01&to=2024-12 (defaults to the last 12 months)
+    @GetMapping("/monthly")
+    public ResponseEntity<List<MonthlyFuelStatsResponse>> monthly(Authentication auth,
+                                                                  @RequestParam(required = false) YearMonth from,
+                                                                  @RequestParam(required = false) YearMonth to) {
+        UUID userId = UUID.fromString(auth.getName());
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        return ResponseEntity.ok(statsService.getMonthlyStats(userId, start, end));
+    }
+
+    // Monthly totals for one vehicle, same range parameters
+    @GetMapping("/vehicle/{vehicleId}/monthly")
+    public ResponseEntity<List<MonthlyFuelStatsResponse>> vehicleMonthly(Authentication auth,
+                                                                         @PathVariable UUID vehicleId,
+                                                                         @RequestParam(required = false) YearMonth from,
+                                                                         @RequestParam(required = false) YearMonth to) {
+        UUID userId = UUID.fromString(auth.getName());
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        return ResponseEntity.ok(statsService.getVehicleMonthlyStats(userId, vehicleId, start, end));
+    }
 }
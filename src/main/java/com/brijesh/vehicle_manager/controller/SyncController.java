@@ -1,4 +1,45 @@
 package com.brijesh.vehicle_manager.controller;
 
+import com.brijesh.vehicle_manager.dto.SyncChangesResponse;
+import com.brijesh.vehicle_manager.dto.SyncPushRequest;
+import com.brijesh.vehicle_manager.dto.SyncPushResponse;
+import com.brijesh.vehicle_manager.service.SyncService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
 public class SyncController {
+
+    private final SyncService syncService;
+
+    // Cursor to take before a full download; deltas are then fetched from it
+    @GetMapping("/cursor")
+    public ResponseEntity<Map<String, Long>> cursor(Authentication auth) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(Map.of("cursor", syncService.currentCursor(userId)));
+    }
+
+    // Vehicles and fills changed since the cursor: ?since=<cursor>&limit=500, repeat while hasMore
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesResponse> changes(Authentication auth,
+                                                       @RequestParam(defaultValue = "0") long since,
+                                                       @RequestParam(defaultValue = "500") int limit) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(syncService.getChanges(userId, since, limit));
+    }
+
+    // Replay records created offline (client-generated ids); safe to resend after a timeout
+    @PostMapping("/push")
+    public ResponseEntity<SyncPushResponse> push(Authentication auth, @Valid @RequestBody SyncPushRequest req) {
+        UUID userId = UUID.fromString(auth.getName());
+        return ResponseEntity.ok(syncService.push(userId, req));
+    }
 }
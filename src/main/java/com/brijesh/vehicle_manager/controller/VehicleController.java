@@ -6,9 +6,11 @@ import com.brijesh.vehicle_manager.dto.VehicleUpdateRequest;
 import com.brijesh.vehicle_manager.service.impl.VehicleServiceImpl;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -25,6 +27,7 @@ import java.util.UUID;
 public class VehicleController {
 
     private final VehicleServiceImpl vehicleService;
+    private final EncodingETags encodingETags;
 
     private UUID getCurrentUserId(Authentication auth) {
         if (auth == null || auth.getName() == null) throw new RuntimeException("Unauthenticated");
@@ -38,16 +41,22 @@ public class VehicleController {
         return ResponseEntity.created(URI.create("/api/vehicles/" + resp.getId())).body(resp);
     }
 
+    // Conditional GETs: a matching If-None-Match gets 304 from the version query alone; one tag per encoding
     @GetMapping("/my")
-    public ResponseEntity<List<VehicleResponse>> listMyVehicles(Authentication auth) {
+    public ResponseEntity<List<VehicleResponse>> listMyVehicles(Authentication auth, NativeWebRequest request) {
         UUID userId = getCurrentUserId(auth);
-        return ResponseEntity.ok(vehicleService.listVehicles(userId));
+        String etag = encodingETags.tag(vehicleService.getVehicleListETag(userId), List.class, request);
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(vehicleService.listVehicles(userId));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<VehicleResponse> getVehicle(Authentication auth, @PathVariable("id") UUID id) {
+    public ResponseEntity<VehicleResponse> getVehicle(Authentication auth, @PathVariable("id") UUID id,
+                                                      NativeWebRequest request) {
         UUID userId = getCurrentUserId(auth);
-        return ResponseEntity.ok(vehicleService.getVehicle(userId, id));
+        String etag = encodingETags.tag(vehicleService.getVehicleETag(userId, id), VehicleResponse.class, request);
+        if (request.checkNotModified(etag)) return null;
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(vehicleService.getVehicle(userId, id));
     }
 
     @PutMapping("/{id}")
@@ -0,0 +1,19 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.util.UUID;
+
+/**
+ * One vehicle's entry on the fleet dashboard.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FleetVehicleStatsResponse {
+    private UUID vehicleId;
+    private String nickname;
+    private String registrationNumber;
+    private VehicleFuelStatsResponse stats;
+}
@@ -0,0 +1,35 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Column-oriented fill list (Accept: application/vnd.vehicle-manager.fills-columnar+json):
+ * one array per field, all of length count and in the same row order, with the shared vehicleId sent once.
+ * Field names appear once per response instead of once per fill.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FuelFillColumnsResponse {
+
+    public static final String MEDIA_TYPE = "application/vnd.vehicle-manager.fills-columnar+json";
+
+    private UUID vehicleId;
+    private int count;
+    private List<UUID> id;
+    private List<LocalDate> fillDate;
+    private List<Long> odometerReading;
+    private List<BigDecimal> fuelVolume;
+    private List<BigDecimal> pricePerLiter;
+    private List<BigDecimal> totalAmount;
+    private List<BigDecimal> mileage;
+    private List<Boolean> estimated;
+    private List<String> notes;
+}
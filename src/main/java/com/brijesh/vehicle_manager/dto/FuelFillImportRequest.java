@@ -0,0 +1,21 @@
+package com.brijesh.vehicle_manager.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Bulk import payload. Rows may span several vehicles and arrive in any order;
+ * each row is validated on its own so one bad row does not reject the whole import.
+ */
+@Getter
+@Setter
+public class FuelFillImportRequest {
+
+    @NotEmpty
+    @Size(max = 50000)
+    private List<FuelFillCreateRequest> fills;
+}
@@ -0,0 +1,30 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Row indexes refer to positions in the request list.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FuelFillImportResponse {
+    private int received;
+    private int imported;
+    private List<RowError> errors;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int index;
+        private String message;
+    }
+}
@@ -0,0 +1,18 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * One page of a vehicle's fill history.
+ * nextCursor is opaque to clients; it is null on the last page.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FuelFillPageResponse {
+    private List<FuelFillResponse> items;
+    private String nextCursor;
+}
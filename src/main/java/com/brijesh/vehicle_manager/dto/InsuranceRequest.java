@@ -0,0 +1,36 @@
+package com.brijesh.vehicle_manager.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Create/update payload for an insurance policy.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InsuranceRequest {
+
+    @NotNull
+    private UUID vehicleId;
+
+    @Size(max = 100)
+    private String provider;
+
+    @Size(max = 100)
+    private String policyNumber;
+
+    private LocalDate startDate;
+
+    @NotNull
+    private LocalDate expiryDate;
+
+    @DecimalMin("0")
+    private BigDecimal premium;
+}
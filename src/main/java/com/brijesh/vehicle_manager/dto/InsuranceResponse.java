@@ -0,0 +1,24 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InsuranceResponse {
+    private UUID id;
+    private UUID vehicleId;
+    private String provider;
+    private String policyNumber;
+    private LocalDate startDate;
+    private LocalDate expiryDate;
+    private BigDecimal premium;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.brijesh.vehicle_manager.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Records a service as done. Defaults to the vehicle's current odometer and today.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaintenanceCompleteRequest {
+
+    @Min(0)
+    private Long odometer;
+
+    private LocalDate date;
+}
@@ -0,0 +1,38 @@
+package com.brijesh.vehicle_manager.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Create/update payload for a maintenance rule. At least one of intervalKm / intervalMonths is required.
+ * The last service defaults to the vehicle's current odometer and today.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaintenanceRuleRequest {
+
+    @NotNull
+    private UUID vehicleId;
+
+    @NotBlank
+    @Size(max = 100)
+    private String name;
+
+    @Min(1)
+    private Long intervalKm;
+
+    @Min(1)
+    @Max(240)
+    private Integer intervalMonths;
+
+    @Min(0)
+    private Long lastServiceOdometer;
+
+    private LocalDate lastServiceDate;
+}
@@ -0,0 +1,25 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MaintenanceRuleResponse {
+    private UUID id;
+    private UUID vehicleId;
+    private String name;
+    private Long intervalKm;
+    private Integer intervalMonths;
+    private Long lastServiceOdometer;
+    private LocalDate lastServiceDate;
+    private Long nextDueOdometer;
+    private LocalDate nextDueDate;
+    private boolean due;
+    private Instant dueSince;
+}
@@ -0,0 +1,22 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Fuel totals for one calendar month (one vehicle, or all of a user's vehicles).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyFuelStatsResponse {
+    private YearMonth month;
+    private long fillCount;
+    private BigDecimal totalFuel;      // liters
+    private BigDecimal totalCost;      // INR (or chosen currency)
+    private long distanceKm;           // km covered by fills with a computed mileage
+    private BigDecimal averageMileage; // km/l, null when no fill in the month has a mileage
+}
@@ -0,0 +1,35 @@
+package com.brijesh.vehicle_manager.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Payload for creating a reminder. repeatDays is optional (one-off reminder when absent).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReminderCreateRequest {
+
+    @NotNull
+    private UUID vehicleId;
+
+    @NotBlank
+    @Size(max = 200)
+    private String title;
+
+    @Size(max = 1000)
+    private String notes;
+
+    @NotNull
+    private Instant dueAt;
+
+    @Min(1)
+    @Max(3650)
+    private Integer repeatDays;
+}
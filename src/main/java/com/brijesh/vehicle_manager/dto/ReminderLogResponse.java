@@ -0,0 +1,19 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReminderLogResponse {
+    private UUID id;
+    private UUID reminderId;
+    private UUID vehicleId;
+    private String title;
+    private Instant dueAt;
+    private Instant firedAt;
+}
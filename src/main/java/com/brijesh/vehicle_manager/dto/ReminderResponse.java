@@ -0,0 +1,21 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReminderResponse {
+    private UUID id;
+    private UUID vehicleId;
+    private String title;
+    private String notes;
+    private Instant nextDueAt;   // null once a one-off reminder has fired
+    private Integer repeatDays;
+    private Instant lastFiredAt;
+    private Instant createdAt;
+}
@@ -0,0 +1,21 @@
+package com.brijesh.vehicle_manager.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Vehicles and fills changed since the client's cursor, in their current state.
+ * Deleted vehicles are included with deleted=true. Pass cursor back as ?since= on the next call;
+ * hasMore means another call is needed to catch up.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncChangesResponse {
+    private List<VehicleResponse> vehicles;
+    private List<FuelFillResponse> fuelFills;
+    private long cursor;
+    private boolean hasMore;
+}
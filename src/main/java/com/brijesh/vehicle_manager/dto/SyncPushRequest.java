@@ -0,0 +1,42 @@
+package com.brijesh.vehicle_manager.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records created offline, replayed in one call. Every item carries its client-generated id,
+ * so replaying the same batch again is harmless.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncPushRequest {
+
+    @Size(max = 1000)
+    private List<VehicleItem> vehicles;
+
+    @Size(max = 10000)
+    private List<FuelFillItem> fuelFills;
+
+    // The create payloads plus the client-generated id, which only push honours (it recognises replays)
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class VehicleItem extends VehicleCreateRequest {
+        @NotNull
+        private UUID id;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class FuelFillItem extends FuelFillCreateRequest {
+        @NotNull
+        private UUID id;
+    }
+}
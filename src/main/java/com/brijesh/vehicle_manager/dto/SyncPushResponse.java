@@ -0,0 +1,44 @@
+package com.brijesh.vehicle_manager.dto;
+
+import com.brijesh.vehicle_manager.entity.SyncMetadata;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-item outcome of a sync push. Indexes refer to positions in the request's vehicles / fuelFills lists.
+ * APPLIED and DUPLICATE both mean the server has the record; CONFLICT and INVALID carry a message.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncPushResponse {
+    private int applied;
+    private int duplicates;
+    private int rejected;
+    private List<ItemResult> results;
+
+    public enum Status {
+        APPLIED,
+        DUPLICATE,
+        CONFLICT,
+        INVALID
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private SyncMetadata.EntityType type;
+        private int index;
+        private UUID id;
+        private Status status;
+        private String message;
+    }
+}
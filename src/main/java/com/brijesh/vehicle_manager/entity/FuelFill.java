@@ -11,7 +11,9 @@ import java.util.UUID;
  * Fuel fill record. All monetary/volume fields use BigDecimal for precision.
  */
 @Entity
-@Table(name = "fuel_fills")
+@Table(name = "fuel_fills", indexes = {
+        @Index(name = "idx_fuel_vehicle_date", columnList = "vehicleId, fillDate, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,98 @@
+package com.brijesh.vehicle_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Per-vehicle, per-calendar-month fuel totals, maintained alongside every inserted fill
+ * so dashboards read one row per vehicle and month instead of the fill history.
+ */
+@Entity
+@Table(name = "fuel_monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_vehicle_month", columnNames = {"vehicleId", "month_start"}),
+        indexes = @Index(name = "idx_rollup_owner_month", columnList = "ownerId, month_start"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FuelMonthlyRollup {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID vehicleId;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    // First day of the month ("month" is reserved in some SQL dialects)
+    @Column(name = "month_start", nullable = false)
+    private LocalDate month;
+
+    @Column(nullable = false)
+    private long fillCount;
+
+    @Column(nullable = false, precision = 16, scale = 3)
+    private BigDecimal totalFuel;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal totalCost;
+
+    // Distance covered by the fills that have a mileage, and the fuel of those fills (average mileage = ratio)
+    @Column(nullable = false)
+    private long distanceKm;
+
+    @Column(nullable = false, precision = 16, scale = 3)
+    private BigDecimal mileageFuel;
+
+    private Instant updatedAt;
+
+    public static FuelMonthlyRollup empty(UUID vehicleId, UUID ownerId, LocalDate month) {
+        return FuelMonthlyRollup.builder()
+                .vehicleId(vehicleId)
+                .ownerId(ownerId)
+                .month(month.withDayOfMonth(1))
+                .totalFuel(BigDecimal.ZERO)
+                .totalCost(BigDecimal.ZERO)
+                .mileageFuel(BigDecimal.ZERO)
+                .build();
+    }
+
+    /**
+     * Fold a newly inserted fill into its month; distanceKm is the distance since the previous fill
+     * that its mileage was computed from.
+     */
+    public void apply(FuelFill f, long distanceKm) {
+        fillCount++;
+        if (f.getFuelVolume() != null) totalFuel = totalFuel.add(f.getFuelVolume());
+        if (f.getTotalAmount() != null) totalCost = totalCost.add(f.getTotalAmount());
+        if (f.getMileage() != null) {
+            this.distanceKm += distanceKm;
+            mileageFuel = mileageFuel.add(f.getFuelVolume());
+        }
+        updatedAt = Instant.now();
+    }
+
+    /**
+     * Re-measure an already folded fill against a new previous fill (one was inserted before it): its old
+     * distance is taken out and the new one added. Call before the fill's mileage is updated.
+     */
+    public void remeasure(FuelFill f, long oldDistanceKm, BigDecimal newMileage, long newDistanceKm) {
+        if (f.getMileage() != null) {
+            this.distanceKm -= oldDistanceKm;
+            mileageFuel = mileageFuel.subtract(f.getFuelVolume());
+        }
+        if (newMileage != null) {
+            this.distanceKm += newDistanceKm;
+            mileageFuel = mileageFuel.add(f.getFuelVolume());
+        }
+        updatedAt = Instant.now();
+    }
+}
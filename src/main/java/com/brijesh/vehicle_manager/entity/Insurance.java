@@ -1,4 +1,56 @@
 package com.brijesh.vehicle_manager.entity;
 
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Insurance policy of a vehicle.
+ * lastNoticeDays is the smallest lead time (days before expiry) a notice has been sent for;
+ * it is reset whenever the expiry date changes (renewal).
+ */
+@Entity
+@Table(name = "insurance_policies", indexes = {
+        @Index(name = "idx_insurance_expiry", columnList = "expiryDate, id"),
+        @Index(name = "idx_insurance_owner_vehicle", columnList = "ownerId, vehicleId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class Insurance {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false)
+    private UUID vehicleId;
+
+    @Column(length = 100)
+    private String provider;
+
+    @Column(length = 100)
+    private String policyNumber;
+
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate expiryDate;
+
+    @Column(precision = 12, scale = 2)
+    private BigDecimal premium;
+
+    private Integer lastNoticeDays;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant updatedAt;
 }
@@ -1,4 +1,74 @@
 package com.brijesh.vehicle_manager.entity;
 
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Recurring maintenance ("every 10,000 km or 12 months") for one vehicle.
+ * nextDueOdometer / nextDueDate are compiled from the last service and the intervals so that evaluation
+ * is a comparison, not a computation. dueSince is set once either threshold is crossed, and cleared
+ * when the service is recorded as done.
+ */
+@Entity
+@Table(name = "maintenance_rules", indexes = {
+        @Index(name = "idx_maint_vehicle_odometer", columnList = "vehicleId, nextDueOdometer"),
+        @Index(name = "idx_maint_next_date", columnList = "nextDueDate")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class MaintenanceRule {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false)
+    private UUID vehicleId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    // At least one interval is set
+    private Long intervalKm;
+
+    private Integer intervalMonths;
+
+    @Column(nullable = false)
+    private Long lastServiceOdometer;
+
+    @Column(nullable = false)
+    private LocalDate lastServiceDate;
+
+    private Long nextDueOdometer;
+
+    private LocalDate nextDueDate;
+
+    private Instant dueSince;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    /**
+     * Recompile the thresholds from the last service; clears the due flag.
+     */
+    public void recompute() {
+        nextDueOdometer = intervalKm != null ? lastServiceOdometer + intervalKm : null;
+        nextDueDate = intervalMonths != null ? lastServiceDate.plusMonths(intervalMonths) : null;
+        dueSince = null;
+    }
+
+    public boolean isDueAt(long odometer, LocalDate today) {
+        return (nextDueOdometer != null && odometer >= nextDueOdometer)
+                || (nextDueDate != null && !nextDueDate.isAfter(today));
+    }
 }
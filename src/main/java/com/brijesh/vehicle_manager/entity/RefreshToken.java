@@ -11,7 +11,9 @@ import java.util.UUID;
 
 /**
  * RefreshToken entity stores server-side refresh tokens for rotation and revocation.
- * We store token as opaque string; when rotating we replace this entry.
+ * Only the SHA-256 of the token is stored: a fixed 32-byte key keeps the unique index small and a leaked
+ * table holds no usable tokens. When rotating we replace this entry; expired rows are purged in batches.
+ * Rows from before token_hash existed must be deleted before upgrading, see RefreshTokenIndexCheck.
  */
 @Entity
 @Getter
@@ -19,7 +21,8 @@ import java.util.UUID;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "refresh_token", indexes = {
-        @Index(name = "idx_refresh_user", columnList = "userId")
+        @Index(name = "idx_refresh_user", columnList = "userId"),
+        @Index(name = "idx_refresh_expires", columnList = "expiresAt")
 })
 public class RefreshToken {
 
@@ -27,9 +30,9 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    // Opaque token value
-    @Column(nullable = false, unique = true, length = 512)
-    private String token;
+    // JwtUtil.digest of the token value
+    @Column(nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     @Column(nullable = false)
     private UUID userId;
@@ -0,0 +1,50 @@
+package com.brijesh.vehicle_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Time-based reminder for a vehicle.
+ * nextDueAt is null once a one-off reminder has fired; repeating ones move it forward by repeatDays.
+ */
+@Entity
+@Table(name = "reminders", indexes = {
+        @Index(name = "idx_reminder_next_due", columnList = "nextDueAt"),
+        @Index(name = "idx_reminder_owner_vehicle", columnList = "ownerId, vehicleId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Reminder {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false)
+    private UUID vehicleId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String notes;
+
+    // Pending reminders only; the scheduler reads this column through idx_reminder_next_due
+    private Instant nextDueAt;
+
+    private Integer repeatDays;
+
+    private Instant lastFiredAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant updatedAt;
+}
@@ -1,4 +1,45 @@
 package com.brijesh.vehicle_manager.entity;
 
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One fired reminder or notice (e.g. an upcoming insurance expiry). Written by the schedulers in batches.
+ */
+@Entity
+@Table(name = "reminder_log", indexes = {
+        @Index(name = "idx_reminder_log_owner_fired", columnList = "ownerId, firedAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class ReminderLog {
+
+    // Generated in memory, so inserts can still be JDBC-batched
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    // The reminder, or the record the notice is about (insurance policy)
+    @Column(nullable = false)
+    private UUID reminderId;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false)
+    private UUID vehicleId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(nullable = false)
+    private Instant dueAt;
+
+    @Column(nullable = false)
+    private Instant firedAt;
 }
@@ -1,4 +1,46 @@
 package com.brijesh.vehicle_manager.entity;
 
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Append-only change log used by delta sync.
+ * Every write to a vehicle or fuel fill appends a row; seq is the client's sync cursor.
+ * Rows only point at the changed entity, the current state is read from its own table.
+ */
+@Entity
+@Table(name = "sync_metadata", indexes = {
+        @Index(name = "idx_sync_owner_seq", columnList = "ownerId, seq")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class SyncMetadata {
+
+    // Auto-increment, so it follows insert order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private UUID entityId;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    public enum EntityType {
+        VEHICLE,
+        FUEL_FILL
+    }
 }
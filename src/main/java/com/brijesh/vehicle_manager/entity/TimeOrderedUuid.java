@@ -0,0 +1,38 @@
+package com.brijesh.vehicle_manager.entity;
+
+import com.brijesh.vehicle_manager.util.UuidV7;
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.EnumSet;
+
+/**
+ * Id generated in memory as a time-ordered UUID ({@link UuidV7}), for entities whose id is not assigned by the service.
+ * Generated before the insert, so JDBC batching still works.
+ */
+@IdGeneratorType(TimeOrderedUuid.Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+
+    class Generator implements BeforeExecutionGenerator {
+
+        @Override
+        public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                               EventType eventType) {
+            return UuidV7.generate();
+        }
+
+        @Override
+        public EnumSet<EventType> getEventTypes() {
+            return EventTypeSets.INSERT_ONLY;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.brijesh.vehicle_manager.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,13 +14,18 @@ import java.util.UUID;
 /**
  * User entity stores basic authentication info.
  * Password is stored as a secure hash (BCrypt).
+ * Kept in the second-level cache (login looks users up by email on every attempt).
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_tokens_valid_after", columnList = "tokensValidAfter")
+})
 public class User {
 
     @Id
@@ -36,4 +43,7 @@ public class User {
     @Column(nullable = false)
     private Instant createdAt = Instant.now();
 
+    // Access tokens issued at or before this instant are rejected (set on logout); null = no revocation
+    private Instant tokensValidAfter;
+
 }
@@ -1,6 +1,9 @@
 package com.brijesh.vehicle_manager.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.*;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -9,8 +12,14 @@ import java.util.UUID;
 /**
  * Vehicle entity.
  * Soft-delete is supported via `deleted` flag.
+ * Kept in the second-level cache; write it through the entity (dynamic update: only changed columns),
+ * since bulk HQL updates evict the whole region. The fill paths' odometer advance is the exception
+ * (VehicleOdometer: conditional JDBC update plus a single-entry eviction).
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "vehicles")
+@DynamicUpdate
 @Table(name = "vehicles", indexes = {
         @Index(name = "idx_vehicle_owner", columnList = "ownerId")
 })
@@ -0,0 +1,76 @@
+package com.brijesh.vehicle_manager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Running per-vehicle fuel aggregate, maintained alongside every inserted fill
+ * so the stats endpoint never has to reduce the full fill history.
+ * First/last odometer follow fill date order, the same order the history query uses.
+ */
+@Entity
+@Table(name = "vehicle_fuel_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VehicleFuelStats {
+
+    // Same id as the vehicle this aggregate belongs to
+    @Id
+    private UUID vehicleId;
+
+    @Column(nullable = false)
+    private long fillCount;
+
+    @Column(nullable = false, precision = 16, scale = 3)
+    private BigDecimal totalFuel;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal totalCost;
+
+    private LocalDate firstFillDate;
+
+    private Long firstOdometer;
+
+    private LocalDate lastFillDate;
+
+    private Long lastOdometer;
+
+    private Instant updatedAt;
+
+    public static VehicleFuelStats empty(UUID vehicleId) {
+        return VehicleFuelStats.builder()
+                .vehicleId(vehicleId)
+                .fillCount(0)
+                .totalFuel(BigDecimal.ZERO)
+                .totalCost(BigDecimal.ZERO)
+                .build();
+    }
+
+    /**
+     * Fold a newly inserted fill into the aggregate.
+     * A fill dated on/after the current last fill becomes the new last one; a strictly older fill
+     * (back-dated entry) becomes the new first one.
+     */
+    public void apply(FuelFill f) {
+        fillCount++;
+        if (f.getFuelVolume() != null) totalFuel = totalFuel.add(f.getFuelVolume());
+        if (f.getTotalAmount() != null) totalCost = totalCost.add(f.getTotalAmount());
+
+        if (firstFillDate == null || f.getFillDate().isBefore(firstFillDate)) {
+            firstFillDate = f.getFillDate();
+            firstOdometer = f.getOdometerReading();
+        }
+        if (lastFillDate == null || !f.getFillDate().isBefore(lastFillDate)) {
+            lastFillDate = f.getFillDate();
+            lastOdometer = f.getOdometerReading();
+        }
+        updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,10 @@
+package com.brijesh.vehicle_manager.exception;
+
+/**
+ * Temporary overload; mapped to 503 with a Retry-After header.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String s) {
+        super(s);
+    }
+}
@@ -1,9 +1,14 @@
 package com.brijesh.vehicle_manager.mapper;
 
+import com.brijesh.vehicle_manager.dto.FuelFillColumnsResponse;
 import com.brijesh.vehicle_manager.dto.FuelFillResponse;
 import com.brijesh.vehicle_manager.entity.FuelFill;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Single place to map entity -> response. Keeps controllers/services clean.
  */
@@ -25,5 +30,36 @@ public class FuelFillMapper {
                 .notes(f.getNotes())
                 .build();
     }
-}
 
+    /**
+     * Columnar shape of one vehicle's fills, filled straight from the entities (no per-row DTO).
+     */
+    public FuelFillColumnsResponse toColumns(UUID vehicleId, List<FuelFill> fills) {
+        int n = fills.size();
+        FuelFillColumnsResponse c = FuelFillColumnsResponse.builder()
+                .vehicleId(vehicleId)
+                .count(n)
+                .id(new ArrayList<>(n))
+                .fillDate(new ArrayList<>(n))
+                .odometerReading(new ArrayList<>(n))
+                .fuelVolume(new ArrayList<>(n))
+                .pricePerLiter(new ArrayList<>(n))
+                .totalAmount(new ArrayList<>(n))
+                .mileage(new ArrayList<>(n))
+                .estimated(new ArrayList<>(n))
+                .notes(new ArrayList<>(n))
+                .build();
+        for (FuelFill f : fills) {
+            c.getId().add(f.getId());
+            c.getFillDate().add(f.getFillDate());
+            c.getOdometerReading().add(f.getOdometerReading());
+            c.getFuelVolume().add(f.getFuelVolume());
+            c.getPricePerLiter().add(f.getPricePerLiter());
+            c.getTotalAmount().add(f.getTotalAmount());
+            c.getMileage().add(f.getMileage());
+            c.getEstimated().add(f.isEstimated());
+            c.getNotes().add(f.getNotes());
+        }
+        return c;
+    }
+}
@@ -0,0 +1,86 @@
+package com.brijesh.vehicle_manager.mapper;
+
+import com.brijesh.vehicle_manager.dto.MonthlyFuelStatsResponse;
+import com.brijesh.vehicle_manager.dto.VehicleFuelStatsResponse;
+import com.brijesh.vehicle_manager.entity.FuelMonthlyRollup;
+import com.brijesh.vehicle_manager.entity.VehicleFuelStats;
+import com.brijesh.vehicle_manager.repository.FuelMonthlyRollupRepository;
+import com.brijesh.vehicle_manager.util.MileageCalculator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Turns the stored per-vehicle aggregate into the stats response.
+ * Rounding matches what the old full-history computation produced.
+ */
+public final class FuelStatsMapper {
+
+    private FuelStatsMapper() {}
+
+    public static VehicleFuelStatsResponse toResponse(VehicleFuelStats s) {
+        if (s == null || s.getFillCount() == 0) {
+            return VehicleFuelStatsResponse.builder()
+                    .totalFuel(BigDecimal.ZERO)
+                    .totalCost(BigDecimal.ZERO)
+                    .totalDistance(0L)
+                    .averageMileage(null)
+                    .costPerKm(null)
+                    .extra(null)
+                    .build();
+        }
+
+        BigDecimal totalFuel = s.getTotalFuel();
+        BigDecimal totalCost = s.getTotalCost();
+
+        long totalDistance = 0L;
+        if (s.getFillCount() >= 2 && s.getFirstOdometer() != null && s.getLastOdometer() != null) {
+            totalDistance = s.getLastOdometer() - s.getFirstOdometer();
+        }
+
+        BigDecimal averageMileage = null;
+        if (totalFuel.compareTo(BigDecimal.ZERO) > 0) {
+            averageMileage = MileageCalculator.computeMileage(totalDistance, totalFuel);
+        }
+
+        BigDecimal costPerKm = null;
+        if (totalDistance > 0) {
+            costPerKm = MileageCalculator.costPerKm(totalCost, totalDistance);
+        }
+
+        return VehicleFuelStatsResponse.builder()
+                .totalFuel(totalFuel.setScale(3, RoundingMode.HALF_UP))
+                .totalCost(totalCost.setScale(2, RoundingMode.HALF_UP))
+                .totalDistance(totalDistance)
+                .averageMileage(averageMileage)
+                .costPerKm(costPerKm)
+                .extra(null)
+                .build();
+    }
+
+    public static MonthlyFuelStatsResponse toMonthly(FuelMonthlyRollup r) {
+        return monthly(r.getMonth(), r.getFillCount(), r.getTotalFuel(), r.getTotalCost(), r.getDistanceKm(), r.getMileageFuel());
+    }
+
+    public static MonthlyFuelStatsResponse toMonthly(FuelMonthlyRollupRepository.MonthTotals t) {
+        return monthly(t.getMonth(), t.getFillCount(), t.getTotalFuel(), t.getTotalCost(), t.getDistanceKm(), t.getMileageFuel());
+    }
+
+    private static MonthlyFuelStatsResponse monthly(LocalDate month, long fillCount, BigDecimal totalFuel, BigDecimal totalCost,
+                                                    long distanceKm, BigDecimal mileageFuel) {
+        BigDecimal averageMileage = null;
+        if (distanceKm > 0 && mileageFuel.compareTo(BigDecimal.ZERO) > 0) {
+            averageMileage = MileageCalculator.computeMileage(distanceKm, mileageFuel);
+        }
+        return MonthlyFuelStatsResponse.builder()
+                .month(YearMonth.from(month))
+                .fillCount(fillCount)
+                .totalFuel(totalFuel.setScale(3, RoundingMode.HALF_UP))
+                .totalCost(totalCost.setScale(2, RoundingMode.HALF_UP))
+                .distanceKm(distanceKm)
+                .averageMileage(averageMileage)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.brijesh.vehicle_manager.mapper;
+
+import com.brijesh.vehicle_manager.dto.InsuranceRequest;
+import com.brijesh.vehicle_manager.dto.InsuranceResponse;
+import com.brijesh.vehicle_manager.entity.Insurance;
+
+import java.util.Objects;
+
+public final class InsuranceMapper {
+
+    private InsuranceMapper() {}
+
+    public static InsuranceResponse toResponse(Insurance i) {
+        if (i == null) return null;
+        return InsuranceResponse.builder()
+                .id(i.getId())
+                .vehicleId(i.getVehicleId())
+                .provider(i.getProvider())
+                .policyNumber(i.getPolicyNumber())
+                .startDate(i.getStartDate())
+                .expiryDate(i.getExpiryDate())
+                .premium(i.getPremium())
+                .createdAt(i.getCreatedAt())
+                .updatedAt(i.getUpdatedAt())
+                .build();
+    }
+
+    public static void apply(Insurance i, InsuranceRequest req) {
+        // a new expiry date (renewal) starts the notice sequence again
+        if (!Objects.equals(i.getExpiryDate(), req.getExpiryDate())) i.setLastNoticeDays(null);
+        i.setProvider(req.getProvider());
+        i.setPolicyNumber(req.getPolicyNumber());
+        i.setStartDate(req.getStartDate());
+        i.setExpiryDate(req.getExpiryDate());
+        i.setPremium(req.getPremium());
+    }
+}
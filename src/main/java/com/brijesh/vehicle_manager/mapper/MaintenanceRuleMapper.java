@@ -0,0 +1,31 @@
+package com.brijesh.vehicle_manager.mapper;
+
+import com.brijesh.vehicle_manager.dto.MaintenanceRuleResponse;
+import com.brijesh.vehicle_manager.entity.MaintenanceRule;
+
+import java.time.LocalDate;
+
+public final class MaintenanceRuleMapper {
+
+    private MaintenanceRuleMapper() {}
+
+    public static MaintenanceRuleResponse toResponse(MaintenanceRule r) {
+        if (r == null) return null;
+        // date-based rules count as due from their date on, even before the nightly job has flagged them
+        boolean due = r.getDueSince() != null
+                || (r.getNextDueDate() != null && !r.getNextDueDate().isAfter(LocalDate.now()));
+        return MaintenanceRuleResponse.builder()
+                .id(r.getId())
+                .vehicleId(r.getVehicleId())
+                .name(r.getName())
+                .intervalKm(r.getIntervalKm())
+                .intervalMonths(r.getIntervalMonths())
+                .lastServiceOdometer(r.getLastServiceOdometer())
+                .lastServiceDate(r.getLastServiceDate())
+                .nextDueOdometer(r.getNextDueOdometer())
+                .nextDueDate(r.getNextDueDate())
+                .due(due)
+                .dueSince(r.getDueSince())
+                .build();
+    }
+}
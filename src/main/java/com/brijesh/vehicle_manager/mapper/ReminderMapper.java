@@ -0,0 +1,57 @@
+package com.brijesh.vehicle_manager.mapper;
+
+import com.brijesh.vehicle_manager.dto.ReminderCreateRequest;
+import com.brijesh.vehicle_manager.dto.ReminderLogResponse;
+import com.brijesh.vehicle_manager.dto.ReminderResponse;
+import com.brijesh.vehicle_manager.entity.Reminder;
+import com.brijesh.vehicle_manager.entity.ReminderLog;
+import com.brijesh.vehicle_manager.util.UuidV7;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+public final class ReminderMapper {
+
+    private ReminderMapper() {}
+
+    public static ReminderResponse toResponse(Reminder r) {
+        if (r == null) return null;
+        return ReminderResponse.builder()
+                .id(r.getId())
+                .vehicleId(r.getVehicleId())
+                .title(r.getTitle())
+                .notes(r.getNotes())
+                .nextDueAt(r.getNextDueAt())
+                .repeatDays(r.getRepeatDays())
+                .lastFiredAt(r.getLastFiredAt())
+                .createdAt(r.getCreatedAt())
+                .build();
+    }
+
+    public static ReminderLogResponse toResponse(ReminderLog l) {
+        if (l == null) return null;
+        return ReminderLogResponse.builder()
+                .id(l.getId())
+                .reminderId(l.getReminderId())
+                .vehicleId(l.getVehicleId())
+                .title(l.getTitle())
+                .dueAt(l.getDueAt())
+                .firedAt(l.getFiredAt())
+                .build();
+    }
+
+    public static Reminder fromCreate(UUID ownerId, ReminderCreateRequest req) {
+        return Reminder.builder()
+                .id(UuidV7.generate())
+                .ownerId(ownerId)
+                .vehicleId(req.getVehicleId())
+                .title(req.getTitle())
+                .notes(req.getNotes())
+                // whole seconds, so the value the scheduler queued compares equal to what the database returns
+                .nextDueAt(req.getDueAt().truncatedTo(ChronoUnit.SECONDS))
+                .repeatDays(req.getRepeatDays())
+                .createdAt(Instant.now())
+                .build();
+    }
+}
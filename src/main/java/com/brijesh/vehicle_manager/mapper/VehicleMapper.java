@@ -4,6 +4,7 @@ import com.brijesh.vehicle_manager.dto.VehicleCreateRequest;
 import com.brijesh.vehicle_manager.dto.VehicleResponse;
 import com.brijesh.vehicle_manager.dto.VehicleUpdateRequest;
 import com.brijesh.vehicle_manager.entity.Vehicle;
+import com.brijesh.vehicle_manager.util.UuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -38,7 +39,7 @@ public final class VehicleMapper {
 
     public static Vehicle fromCreate(UUID ownerId, VehicleCreateRequest req) {
         Vehicle v = new Vehicle();
-        v.setId(UUID.randomUUID());
+        v.setId(UuidV7.generate());
         v.setOwnerId(ownerId);
         v.setNickname(req.getNickname());
         v.setRegistrationNumber(req.getRegistrationNumber());
@@ -1,16 +1,91 @@
 package com.brijesh.vehicle_manager.repository;
 
 import com.brijesh.vehicle_manager.entity.FuelFill;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface FuelFillRepository extends JpaRepository<FuelFill, UUID> {
+public interface FuelFillRepository extends JpaRepository<FuelFill, UUID>, FuelFillStreamRepository {
 
     /**
      * Single repository method required by your design.
      * Returns chronological history (oldest->newest).
      */
     List<FuelFill> findByVehicleIdOrderByFillDateAsc(UUID vehicleId);
+
+    Optional<FuelFill> findFirstByVehicleIdOrderByFillDateAsc(UUID vehicleId);
+
+    /**
+     * Latest fill dated on or before the given day (the "previous" fill for mileage).
+     */
+    Optional<FuelFill> findFirstByVehicleIdAndFillDateLessThanEqualOrderByFillDateDescCreatedAtDesc(UUID vehicleId, LocalDate fillDate);
+
+    /**
+     * First fill dated after the given day in "previous fill" order: the fill whose previous fill a backdated
+     * insert on that day becomes.
+     */
+    Optional<FuelFill> findFirstByVehicleIdAndFillDateGreaterThanOrderByFillDateAscCreatedAtAscIdAsc(UUID vehicleId, LocalDate fillDate);
+
+    /**
+     * Existing fills inside a date range, in the order they became "previous" fills (used by bulk import).
+     */
+    List<FuelFill> findByVehicleIdAndFillDateBetweenOrderByFillDateAscCreatedAtAsc(UUID vehicleId, LocalDate from, LocalDate to);
+
+    /**
+     * Newest fills with a positive mileage, newest first; page size is the rolling window.
+     */
+    @Query("select f from FuelFill f where f.vehicleId = :vehicleId and f.mileage > 0 order by f.fillDate desc, f.createdAt desc")
+    List<FuelFill> findRecentWithMileage(@Param("vehicleId") UUID vehicleId, Pageable window);
+
+    /**
+     * Newest fills with a positive price per liter, newest first; page size is the rolling window.
+     */
+    @Query("select f from FuelFill f where f.vehicleId = :vehicleId and f.pricePerLiter > 0 order by f.fillDate desc, f.createdAt desc")
+    List<FuelFill> findRecentWithPrice(@Param("vehicleId") UUID vehicleId, Pageable window);
+
+    Optional<FuelFill> findFirstByVehicleIdOrderByFillDateDesc(UUID vehicleId);
+
+    /*
+     * Keyset pages over (fillDate, id); served by idx_fuel_vehicle_date as a range scan.
+     * The page size comes from the Pageable (callers ask for one extra row to detect a next page).
+     */
+    @Query("select f from FuelFill f where f.vehicleId = :vehicleId order by f.fillDate asc, f.id asc")
+    List<FuelFill> findPageAsc(@Param("vehicleId") UUID vehicleId, Pageable page);
+
+    @Query("select f from FuelFill f where f.vehicleId = :vehicleId " +
+            "and (f.fillDate > :fillDate or (f.fillDate = :fillDate and f.id > :id)) " +
+            "order by f.fillDate asc, f.id asc")
+    List<FuelFill> findPageAscAfter(@Param("vehicleId") UUID vehicleId, @Param("fillDate") LocalDate fillDate,
+                                    @Param("id") UUID id, Pageable page);
+
+    @Query("select f from FuelFill f where f.vehicleId = :vehicleId order by f.fillDate desc, f.id desc")
+    List<FuelFill> findPageDesc(@Param("vehicleId") UUID vehicleId, Pageable page);
+
+    @Query("select f from FuelFill f where f.vehicleId = :vehicleId " +
+            "and (f.fillDate < :fillDate or (f.fillDate = :fillDate and f.id < :id)) " +
+            "order by f.fillDate desc, f.id desc")
+    List<FuelFill> findPageDescBefore(@Param("vehicleId") UUID vehicleId, @Param("fillDate") LocalDate fillDate,
+                                      @Param("id") UUID id, Pageable page);
+
+    /**
+     * Totals computed by the database, used to (re)build the per-vehicle aggregate.
+     */
+    @Query("select count(f) as fillCount, coalesce(sum(f.fuelVolume), 0) as totalFuel, " +
+            "coalesce(sum(f.totalAmount), 0) as totalCost from FuelFill f where f.vehicleId = :vehicleId")
+    FuelTotals sumByVehicleId(@Param("vehicleId") UUID vehicleId);
+
+    interface FuelTotals {
+        long getFillCount();
+
+        BigDecimal getTotalFuel();
+
+        BigDecimal getTotalCost();
+    }
 }
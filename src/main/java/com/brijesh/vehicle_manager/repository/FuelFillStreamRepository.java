@@ -0,0 +1,25 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.FuelFill;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Forward-only streams over a vehicle's whole history. Must be consumed inside a transaction and closed.
+ * On MySQL, Connector/J streams the result row by row; until the stream is closed, nothing else may be run on
+ * the transaction's connection.
+ */
+public interface FuelFillStreamRepository {
+
+    /**
+     * History oldest-first, for exports.
+     */
+    Stream<FuelFill> streamByVehicleId(UUID vehicleId);
+
+    /**
+     * History in "previous fill" order (fill date, then creation time), the order the create and import paths
+     * use to pick the fill a new one is measured against; used to rebuild distance-based rollups.
+     */
+    Stream<FuelFill> streamInFillOrder(UUID vehicleId);
+}
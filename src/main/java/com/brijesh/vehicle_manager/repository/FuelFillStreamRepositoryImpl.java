@@ -0,0 +1,49 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The fetch size hint depends on the database, so these are not annotated query methods: Integer.MIN_VALUE is
+ * Connector/J's documented switch to row-by-row streaming (otherwise it buffers the whole result), while other
+ * drivers (H2 locally and in tests) reject negative sizes and fetch in chunks instead.
+ */
+@RequiredArgsConstructor
+class FuelFillStreamRepositoryImpl implements FuelFillStreamRepository {
+
+    private static final int CHUNK_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<FuelFill> streamByVehicleId(UUID vehicleId) {
+        return stream("select f from FuelFill f where f.vehicleId = :vehicleId order by f.fillDate asc, f.id asc", vehicleId);
+    }
+
+    @Override
+    public Stream<FuelFill> streamInFillOrder(UUID vehicleId) {
+        return stream("select f from FuelFill f where f.vehicleId = :vehicleId " +
+                "order by f.fillDate asc, f.createdAt asc, f.id asc", vehicleId);
+    }
+
+    private Stream<FuelFill> stream(String jpql, UUID vehicleId) {
+        return entityManager.createQuery(jpql, FuelFill.class)
+                .setParameter("vehicleId", vehicleId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private int fetchSize() {
+        boolean mysql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        return mysql ? Integer.MIN_VALUE : CHUNK_FETCH_SIZE;
+    }
+}
@@ -0,0 +1,51 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.FuelMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface FuelMonthlyRollupRepository extends JpaRepository<FuelMonthlyRollup, UUID> {
+
+    // Served by uk_rollup_vehicle_month
+    List<FuelMonthlyRollup> findByVehicleIdAndMonthBetweenOrderByMonthAsc(UUID vehicleId, LocalDate from, LocalDate to);
+
+    /**
+     * A user's months summed over their (non-deleted) vehicles; reads one row per vehicle and month.
+     */
+    @Query("select r.month as month, sum(r.fillCount) as fillCount, sum(r.totalFuel) as totalFuel, " +
+            "sum(r.totalCost) as totalCost, sum(r.distanceKm) as distanceKm, sum(r.mileageFuel) as mileageFuel " +
+            "from FuelMonthlyRollup r where r.ownerId = :ownerId and r.month between :from and :to " +
+            "and r.vehicleId in (select v.id from Vehicle v where v.ownerId = :ownerId and v.deleted = false) " +
+            "group by r.month order by r.month")
+    List<MonthTotals> sumByOwner(@Param("ownerId") UUID ownerId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from FuelMonthlyRollup r where r.vehicleId = :vehicleId")
+    int deleteByVehicle(@Param("vehicleId") UUID vehicleId);
+
+    // Vehicles with fills but no rollups yet (used by the startup backfill)
+    @Query("select distinct f.vehicleId from FuelFill f " +
+            "where not exists (select 1 from FuelMonthlyRollup r where r.vehicleId = f.vehicleId)")
+    List<UUID> findVehicleIdsWithoutRollups();
+
+    interface MonthTotals {
+        LocalDate getMonth();
+
+        long getFillCount();
+
+        BigDecimal getTotalFuel();
+
+        BigDecimal getTotalCost();
+
+        long getDistanceKm();
+
+        BigDecimal getMileageFuel();
+    }
+}
@@ -0,0 +1,32 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.Insurance;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface InsuranceRepository extends JpaRepository<Insurance, UUID> {
+
+    List<Insurance> findByOwnerIdAndVehicleIdOrderByExpiryDateAsc(UUID ownerId, UUID vehicleId);
+
+    Optional<Insurance> findByIdAndOwnerId(UUID id, UUID ownerId);
+
+    // Keyset chunks over idx_insurance_expiry (expiryDate, id), bounded by the expiry window
+
+    @Query("select i from Insurance i where i.expiryDate between :from and :to " +
+            "order by i.expiryDate asc, i.id asc")
+    List<Insurance> findExpiringFirst(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable chunk);
+
+    @Query("select i from Insurance i where i.expiryDate between :from and :to " +
+            "and (i.expiryDate > :afterDate or (i.expiryDate = :afterDate and i.id > :afterId)) " +
+            "order by i.expiryDate asc, i.id asc")
+    List<Insurance> findExpiringAfter(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                      @Param("afterDate") LocalDate afterDate, @Param("afterId") UUID afterId,
+                                      Pageable chunk);
+}
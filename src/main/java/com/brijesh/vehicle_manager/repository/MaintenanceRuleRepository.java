@@ -0,0 +1,35 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.MaintenanceRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface MaintenanceRuleRepository extends JpaRepository<MaintenanceRule, UUID> {
+
+    List<MaintenanceRule> findByOwnerIdAndVehicleIdOrderByCreatedAtAsc(UUID ownerId, UUID vehicleId);
+
+    Optional<MaintenanceRule> findByIdAndOwnerId(UUID id, UUID ownerId);
+
+    // Lowest odometer at which one of the vehicle's not-yet-due rules triggers (null if none)
+    @Query("select min(r.nextDueOdometer) from MaintenanceRule r " +
+            "where r.vehicleId = :vehicleId and r.dueSince is null and r.nextDueOdometer is not null")
+    Long findNextDueOdometer(@Param("vehicleId") UUID vehicleId);
+
+    @Modifying
+    @Query("update MaintenanceRule r set r.dueSince = :now " +
+            "where r.vehicleId = :vehicleId and r.dueSince is null and r.nextDueOdometer <= :odometer")
+    int markDueByOdometer(@Param("vehicleId") UUID vehicleId, @Param("odometer") long odometer, @Param("now") Instant now);
+
+    // Range scan on idx_maint_next_date
+    @Modifying
+    @Query("update MaintenanceRule r set r.dueSince = :now where r.dueSince is null and r.nextDueDate <= :today")
+    int markDueByDate(@Param("today") LocalDate today, @Param("now") Instant now);
+}
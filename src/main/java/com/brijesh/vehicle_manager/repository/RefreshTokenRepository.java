@@ -1,13 +1,22 @@
 package com.brijesh.vehicle_manager.repository;
 
 import com.brijesh.vehicle_manager.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
     void deleteByUserId(UUID userId);
+
+    // One purge batch, served by idx_refresh_expires
+    @Query("select r.id from RefreshToken r where r.expiresAt < :now order by r.expiresAt")
+    List<Long> findExpiredIds(@Param("now") Instant now, Pageable pageable);
 }
@@ -0,0 +1,13 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.ReminderLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReminderLogRepository extends JpaRepository<ReminderLog, UUID> {
+
+    List<ReminderLog> findByOwnerIdOrderByFiredAtDesc(UUID ownerId, Pageable limit);
+}
@@ -0,0 +1,40 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.Reminder;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReminderRepository extends JpaRepository<Reminder, UUID> {
+
+    List<Reminder> findByOwnerIdAndVehicleIdOrderByCreatedAtAsc(UUID ownerId, UUID vehicleId);
+
+    Optional<Reminder> findByIdAndOwnerId(UUID id, UUID ownerId);
+
+    /**
+     * Next pending reminders by due time (range scan on idx_reminder_next_due), ids and due times only.
+     */
+    @Query("select r.id as id, r.nextDueAt as nextDueAt from Reminder r " +
+            "where r.nextDueAt < :until order by r.nextDueAt asc")
+    List<DueView> findDueBefore(@Param("until") Instant until, Pageable limit);
+
+    // Locks the reminders about to fire so two schedulers cannot fire the same occurrence
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reminder r where r.id in :ids")
+    List<Reminder> findAllForUpdate(@Param("ids") Collection<UUID> ids);
+
+    interface DueView {
+        UUID getId();
+
+        Instant getNextDueAt();
+    }
+}
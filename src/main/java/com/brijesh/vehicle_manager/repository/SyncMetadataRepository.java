@@ -0,0 +1,21 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.SyncMetadata;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface SyncMetadataRepository extends JpaRepository<SyncMetadata, Long> {
+
+    // Served by idx_sync_owner_seq
+    @Query("select s from SyncMetadata s where s.ownerId = :ownerId and s.seq > :since order by s.seq asc")
+    List<SyncMetadata> findChangesAfter(@Param("ownerId") UUID ownerId, @Param("since") long since, Pageable limit);
+
+    @Query("select max(s.seq) from SyncMetadata s where s.ownerId = :ownerId and s.changedAt < :before")
+    Long findLatestSeqBefore(@Param("ownerId") UUID ownerId, @Param("before") Instant before);
+}
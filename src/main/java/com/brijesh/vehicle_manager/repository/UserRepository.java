@@ -1,11 +1,38 @@
 package com.brijesh.vehicle_manager.repository;
 
 import com.brijesh.vehicle_manager.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
+
+    // Compare-and-set: a concurrent password change wins over a background re-hash.
+    // Bulk update, so it evicts the User cache region; it only runs once per user after a work factor change.
+    @Transactional
+    @Modifying
+    @Query("update User u set u.passwordHash = :newHash where u.id = :id and u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("id") UUID id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    // Watermarks recent enough to still reject an unexpired access token, served by idx_users_tokens_valid_after
+    @Query("select u.id as userId, u.tokensValidAfter as validAfter from User u where u.tokensValidAfter > :since")
+    List<TokenWatermark> findTokenWatermarksAfter(@Param("since") Instant since);
+
+    interface TokenWatermark {
+        UUID getUserId();
+
+        Instant getValidAfter();
+    }
 }
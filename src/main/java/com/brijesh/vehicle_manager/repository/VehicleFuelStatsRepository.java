@@ -0,0 +1,70 @@
+package com.brijesh.vehicle_manager.repository;
+
+import com.brijesh.vehicle_manager.entity.VehicleFuelStats;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface VehicleFuelStatsRepository extends JpaRepository<VehicleFuelStats, UUID> {
+
+    /**
+     * Row-locks the aggregate so concurrent fills for the same vehicle apply one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from VehicleFuelStats s where s.vehicleId = :vehicleId")
+    Optional<VehicleFuelStats> findForUpdate(@Param("vehicleId") UUID vehicleId);
+
+    /**
+     * Empty aggregate for a vehicle that has none; 0 rows when one exists or a concurrent insert won.
+     * Native (insert-ignore has no JPQL form); the query space keeps Hibernate from invalidating every
+     * second-level cache region, as it does for native updates it cannot attribute to tables.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "vehicle_fuel_stats"))
+    @Query(value = "insert ignore into vehicle_fuel_stats (vehicle_id, fill_count, total_fuel, total_cost) " +
+            "values (:vehicleId, 0, 0, 0)", nativeQuery = true)
+    int insertEmptyIfAbsent(@Param("vehicleId") UUID vehicleId);
+
+    // ETag source for the fill list: every inserted fill bumps both
+    @Query("select s.fillCount as fillCount, s.updatedAt as updatedAt from VehicleFuelStats s where s.vehicleId = :vehicleId")
+    Optional<StatsVersion> findVersion(@Param("vehicleId") UUID vehicleId);
+
+    interface StatsVersion {
+        long getFillCount();
+
+        Instant getUpdatedAt();
+    }
+
+    // Vehicles created before aggregates existed (used by the startup backfill)
+    @Query("select v.id from Vehicle v where not exists (select 1 from VehicleFuelStats s where s.vehicleId = v.id)")
+    List<UUID> findVehicleIdsWithoutStats();
+
+    /**
+     * Every non-deleted vehicle of an owner with its aggregate, in one query (stats is null when not backfilled yet).
+     */
+    @Query("select v.id as vehicleId, v.nickname as nickname, v.registrationNumber as registrationNumber, s as stats " +
+            "from Vehicle v left join VehicleFuelStats s on s.vehicleId = v.id " +
+            "where v.ownerId = :ownerId and v.deleted = false order by v.createdAt")
+    List<FleetRow> findFleetStats(@Param("ownerId") UUID ownerId);
+
+    interface FleetRow {
+        UUID getVehicleId();
+
+        String getNickname();
+
+        String getRegistrationNumber();
+
+        VehicleFuelStats getStats();
+    }
+}
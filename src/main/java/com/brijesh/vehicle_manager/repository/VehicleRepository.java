@@ -1,16 +1,55 @@
 package com.brijesh.vehicle_manager.repository;
 
 import com.brijesh.vehicle_manager.entity.Vehicle;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface VehicleRepository extends JpaRepository<Vehicle, UUID> {
 
-    // List vehicles for a user (non-deleted)
+    // List vehicles for a user (non-deleted); results are kept in the query cache, rows in the entity cache.
+    // Fills advance the odometer outside Hibernate (VehicleOdometer), so they do not invalidate the cached lists
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Vehicle> findAllByOwnerIdAndDeletedFalse(UUID ownerId);
 
-    Optional<Vehicle> findByIdAndOwnerIdAndDeletedFalse(UUID id, UUID ownerId);
+    /**
+     * Non-deleted vehicle of this owner. By id, so it is served from the entity cache; a derived
+     * id-and-owner query would go to the database (or the query cache, which every vehicle write invalidates).
+     */
+    default Optional<Vehicle> findOwned(UUID id, UUID ownerId) {
+        return findById(id).filter(v -> ownerId.equals(v.getOwnerId()) && !v.isDeleted());
+    }
+
+    // Only the columns needed for ownership checks
+    @Query("select v.ownerId as ownerId, v.deleted as deleted from Vehicle v where v.id = :id")
+    Optional<OwnershipView> findOwnershipById(@Param("id") UUID id);
+
+    // ETag sources: the vehicle's last change, and count + latest change over the owner's vehicles
+    @Query("select coalesce(v.updatedAt, v.createdAt) from Vehicle v " +
+            "where v.id = :id and v.ownerId = :ownerId and v.deleted = false")
+    Optional<Instant> findVersion(@Param("id") UUID id, @Param("ownerId") UUID ownerId);
+
+    @Query("select count(v) as count, max(coalesce(v.updatedAt, v.createdAt)) as lastChange from Vehicle v " +
+            "where v.ownerId = :ownerId and v.deleted = false")
+    ListVersion findListVersion(@Param("ownerId") UUID ownerId);
+
+    interface ListVersion {
+        long getCount();
+
+        Instant getLastChange();
+    }
+
+    interface OwnershipView {
+        UUID getOwnerId();
+
+        boolean isDeleted();
+    }
 }
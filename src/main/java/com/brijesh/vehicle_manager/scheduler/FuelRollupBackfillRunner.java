@@ -0,0 +1,38 @@
+package com.brijesh.vehicle_manager.scheduler;
+
+import com.brijesh.vehicle_manager.repository.FuelMonthlyRollupRepository;
+import com.brijesh.vehicle_manager.service.StatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds monthly rollups for vehicles whose fills predate the rollup table.
+ * Runs once at startup; each vehicle is rebuilt in its own transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.fuel.rollups.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class FuelRollupBackfillRunner implements ApplicationRunner {
+
+    private final FuelMonthlyRollupRepository rollupRepository;
+    private final StatsService statsService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<UUID> missing = rollupRepository.findVehicleIdsWithoutRollups();
+        if (missing.isEmpty()) return;
+
+        log.info("Backfilling monthly fuel rollups for {} vehicles", missing.size());
+        for (UUID vehicleId : missing) {
+            statsService.rebuildMonthlyRollups(vehicleId);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.brijesh.vehicle_manager.scheduler;
+
+import com.brijesh.vehicle_manager.repository.VehicleFuelStatsRepository;
+import com.brijesh.vehicle_manager.service.FuelFillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the fuel stats aggregate for vehicles that existed before aggregates were introduced.
+ * Runs once at startup; each vehicle is rebuilt in its own transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.fuel.stats.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class FuelStatsBackfillRunner implements ApplicationRunner {
+
+    private final VehicleFuelStatsRepository statsRepository;
+    private final FuelFillService fuelFillService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<UUID> missing = statsRepository.findVehicleIdsWithoutStats();
+        if (missing.isEmpty()) return;
+
+        log.info("Backfilling fuel stats for {} vehicles", missing.size());
+        for (UUID vehicleId : missing) {
+            fuelFillService.rebuildVehicleStats(vehicleId);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.brijesh.vehicle_manager.scheduler;
+
+import com.brijesh.vehicle_manager.service.InsuranceService;
+import com.brijesh.vehicle_manager.service.InsuranceService.ExpiryCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Daily insurance expiry notices. Walks only the policies inside the notice window, in keyset chunks of
+ * bounded size with one short transaction each, so the cost follows the number of upcoming expirations.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.insurance.expiry-job.enabled", havingValue = "true", matchIfMissing = true)
+public class InsuranceExpiryJob {
+
+    private final InsuranceService insuranceService;
+    private final int chunkSize;
+
+    public InsuranceExpiryJob(InsuranceService insuranceService,
+                              @Value("${app.insurance.expiry-job.chunk-size:1000}") int chunkSize) {
+        this.insuranceService = insuranceService;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${app.insurance.expiry-job.cron:0 15 0 * * *}")
+    public void run() {
+        LocalDate today = LocalDate.now();
+        int chunks = 0;
+        ExpiryCursor cursor = null;
+        do {
+            cursor = insuranceService.notifyExpiring(today, cursor, chunkSize);
+            chunks++;
+        } while (cursor != null);
+        log.info("Insurance expiry scan done in {} chunks", chunks);
+    }
+}
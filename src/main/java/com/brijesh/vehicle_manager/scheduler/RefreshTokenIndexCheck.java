@@ -0,0 +1,55 @@
+package com.brijesh.vehicle_manager.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Refuses to start when refresh_token.token_hash has no unique index of its own.
+ * On a table that already held rows, ddl-auto=update adds the NOT NULL token_hash column with the same zero value
+ * in every row, the unique constraint then fails and hbm2ddl only logs it. Before deploying over the old
+ * schema, delete the (now unusable) rows: DELETE FROM refresh_token; ALTER TABLE refresh_token DROP COLUMN token.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenIndexCheck implements ApplicationRunner {
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        try (Connection con = dataSource.getConnection()) {
+            if (!hasUniqueTokenHashIndex(con)) {
+                throw new IllegalStateException("refresh_token.token_hash has no unique index. Run "
+                        + "DELETE FROM refresh_token; ALTER TABLE refresh_token DROP COLUMN token; "
+                        + "ALTER TABLE refresh_token ADD UNIQUE (token_hash); then restart");
+            }
+        }
+    }
+
+    static boolean hasUniqueTokenHashIndex(Connection con) throws SQLException {
+        DatabaseMetaData meta = con.getMetaData();
+        String table = meta.storesUpperCaseIdentifiers() ? "REFRESH_TOKEN" : "refresh_token";
+        // index name -> whether it is exactly (token_hash)
+        Map<String, Boolean> onlyTokenHash = new HashMap<>();
+        try (ResultSet rs = meta.getIndexInfo(con.getCatalog(), con.getSchema(), table, true, false)) {
+            while (rs.next()) {
+                String index = rs.getString("INDEX_NAME");
+                String column = rs.getString("COLUMN_NAME");
+                if (index == null || column == null) continue;
+                boolean tokenHash = column.equalsIgnoreCase("token_hash");
+                onlyTokenHash.merge(index, tokenHash, (a, b) -> false);
+            }
+        }
+        return onlyTokenHash.containsValue(true);
+    }
+}
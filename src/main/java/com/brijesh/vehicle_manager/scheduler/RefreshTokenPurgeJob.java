@@ -0,0 +1,43 @@
+package com.brijesh.vehicle_manager.scheduler;
+
+import com.brijesh.vehicle_manager.service.AuthService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Deletes expired refresh tokens in bounded batches, one short transaction each,
+ * so the purge never holds long locks on the refresh_token table.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.auth.refresh-purge.enabled", havingValue = "true", matchIfMissing = true)
+public class RefreshTokenPurgeJob {
+
+    private final AuthService authService;
+    private final int batchSize;
+
+    public RefreshTokenPurgeJob(AuthService authService,
+                                @Value("${app.auth.refresh-purge.batch-size:1000}") int batchSize) {
+        this.authService = authService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${app.auth.refresh-purge.cron:0 30 * * * *}")
+    public void run() {
+        Instant now = Instant.now();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = authService.purgeExpiredRefreshTokens(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+    }
+}
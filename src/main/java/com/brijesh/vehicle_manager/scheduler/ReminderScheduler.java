@@ -1,4 +1,102 @@
 package com.brijesh.vehicle_manager.scheduler;
 
+import com.brijesh.vehicle_manager.service.ReminderService;
+import com.brijesh.vehicle_manager.service.ReminderService.Due;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * Fires reminders without scanning them.
+ * Every refill interval the next window of due occurrences is read from the nextDueAt index into an in-memory
+ * priority queue; each tick pops whatever is due and fires it as one batch. Reminders created or rescheduled
+ * inside the loaded window are queued straight away from their after-commit event.
+ * Queue entries can go stale (reminder deleted or moved); the `queued` map and the locked re-check in
+ * ReminderService.fire make sure each occurrence fires once.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true", matchIfMissing = true)
 public class ReminderScheduler {
+
+    private final ReminderService reminderService;
+    private final Duration window;
+    private final int batchSize;
+    private final int maxLoaded;
+
+    private final PriorityBlockingQueue<Due> queue = new PriorityBlockingQueue<>(1024, Comparator.comparing(Due::dueAt));
+    // reminderId -> occurrence currently queued for it
+    private final ConcurrentHashMap<UUID, Instant> queued = new ConcurrentHashMap<>();
+    private volatile Instant loadedUntil = Instant.MIN;
+
+    public ReminderScheduler(ReminderService reminderService,
+                             @Value("${app.reminders.window:PT15M}") Duration window,
+                             @Value("${app.reminders.batch-size:500}") int batchSize,
+                             @Value("${app.reminders.max-loaded:10000}") int maxLoaded) {
+        // refill tells a truncated load from a complete one by its size, so it needs at least one row
+        if (maxLoaded <= 0) throw new IllegalArgumentException("app.reminders.max-loaded must be positive");
+        if (batchSize <= 0) throw new IllegalArgumentException("app.reminders.batch-size must be positive");
+        this.reminderService = reminderService;
+        this.window = window;
+        this.batchSize = batchSize;
+        this.maxLoaded = maxLoaded;
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.refill-interval:PT1M}")
+    public void refill() {
+        Instant until = Instant.now().plus(window);
+        List<Due> due = reminderService.findDueBefore(until, maxLoaded);
+        due.forEach(this::enqueue);
+        // if the load was truncated, only the part actually read counts as loaded
+        loadedUntil = due.size() < maxLoaded ? until : due.get(due.size() - 1).dueAt();
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.tick:PT1S}")
+    public void fireDue() {
+        Instant now = Instant.now();
+        while (true) {
+            List<Due> batch = new ArrayList<>();
+            Due head;
+            while (batch.size() < batchSize && (head = queue.peek()) != null && !head.dueAt().isAfter(now)) {
+                queue.poll();
+                if (queued.remove(head.reminderId(), head.dueAt())) batch.add(head);
+            }
+            if (batch.isEmpty()) return;
+
+            try {
+                reminderService.fire(batch).forEach(this::enqueueIfLoaded);
+            } catch (RuntimeException ex) {
+                log.warn("Firing {} reminders failed, retrying next tick", batch.size(), ex);
+                batch.forEach(this::enqueue);
+                return;
+            }
+            if (batch.size() < batchSize) return;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDueChanged(Due due) {
+        enqueueIfLoaded(due);
+    }
+
+    private void enqueueIfLoaded(Due due) {
+        if (due.dueAt() != null && due.dueAt().isBefore(loadedUntil)) enqueue(due);
+    }
+
+    private void enqueue(Due due) {
+        Instant previous = queued.put(due.reminderId(), due.dueAt());
+        if (!due.dueAt().equals(previous)) queue.add(due);
+    }
 }
@@ -0,0 +1,73 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user "tokens issued at or before" watermarks, checked by the JWT filter without touching the DB.
+ * Only watermarks younger than the access token validity are kept: an older one cannot match an access token
+ * that is still unexpired, so the map holds just the users who logged out within that window. This relies on the
+ * filter accepting access tokens only (token_use claim); refresh tokens are revoked by deleting their rows.
+ * Logouts on this instance apply immediately; the map is reloaded from the users table periodically
+ * so logouts on other instances take effect within app.auth.revocation.refresh-interval.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocations {
+
+    private final UserRepository userRepository;
+    private final long accessValiditySeconds;
+    // userId -> watermark, epoch millis (matches the access token's iat_ms claim)
+    private volatile Map<UUID, Long> watermarks = new ConcurrentHashMap<>();
+
+    public AccessTokenRevocations(UserRepository userRepository,
+                                  @Value("${app.jwt.access-validity-sec:3600}") long accessValiditySeconds) {
+        this.userRepository = userRepository;
+        this.accessValiditySeconds = accessValiditySeconds;
+    }
+
+    /**
+     * True if the user revoked their tokens at or after issuedAt, compared in milliseconds so a login right
+     * after a logout is not caught by it. Tokens without an issue time are rejected once the user has a watermark.
+     */
+    public boolean isRevoked(UUID userId, Instant issuedAt) {
+        Long watermark = watermarks.get(userId);
+        if (watermark == null) return false;
+        return issuedAt == null || issuedAt.toEpochMilli() <= watermark;
+    }
+
+    /**
+     * Record a revocation made on this instance; the caller persists it to users.tokensValidAfter.
+     */
+    public void revoke(UUID userId, Instant at) {
+        watermarks.merge(userId, at.toEpochMilli(), Math::max);
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${app.auth.revocation.refresh-interval:PT30S}",
+            initialDelayString = "${app.auth.revocation.refresh-interval:PT30S}")
+    public void reload() {
+        Map<UUID, Long> loaded = new ConcurrentHashMap<>();
+        for (UserRepository.TokenWatermark w
+                : userRepository.findTokenWatermarksAfter(Instant.now().minusSeconds(accessValiditySeconds))) {
+            loaded.put(w.getUserId(), w.getValidAfter().toEpochMilli());
+        }
+        // keep local revocations whose transaction committed after the query ran
+        Map<UUID, Long> previous = watermarks;
+        long cutoff = Instant.now().minusSeconds(accessValiditySeconds).toEpochMilli();
+        previous.forEach((userId, at) -> {
+            if (at > cutoff) loaded.merge(userId, at, Math::max);
+        });
+        watermarks = loaded;
+        log.debug("Loaded {} access token revocation watermarks", loaded.size());
+    }
+}
@@ -5,13 +5,13 @@ import com.brijesh.vehicle_manager.dto.AuthResponse;
 import com.brijesh.vehicle_manager.dto.RegisterRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public interface AuthService {
-    @Transactional
+    // register and login manage their own transactions around password hashing
     AuthResponse register(RegisterRequest req);
 
-    @Transactional
     AuthResponse login(AuthRequest req);
 
     @Transactional
@@ -19,4 +19,8 @@ public interface AuthService {
 
     @Transactional
     void logout(UUID userId);
+
+    // Deletes up to batchSize refresh tokens that expired before now; returns how many were deleted
+    @Transactional
+    int purgeExpiredRefreshTokens(Instant now, int batchSize);
 }
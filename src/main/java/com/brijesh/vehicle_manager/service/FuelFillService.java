@@ -1,17 +1,42 @@
 package com.brijesh.vehicle_manager.service;
 
+import com.brijesh.vehicle_manager.dto.FleetVehicleStatsResponse;
+import com.brijesh.vehicle_manager.dto.FuelFillColumnsResponse;
 import com.brijesh.vehicle_manager.dto.FuelFillCreateRequest;
+import com.brijesh.vehicle_manager.dto.FuelFillImportResponse;
+import com.brijesh.vehicle_manager.dto.FuelFillPageResponse;
 import com.brijesh.vehicle_manager.dto.FuelFillResponse;
+import com.brijesh.vehicle_manager.dto.SyncPushRequest;
 import com.brijesh.vehicle_manager.dto.VehicleFuelStatsResponse;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface FuelFillService {
 
     FuelFillResponse createFuelFill(UUID userId, FuelFillCreateRequest req);
 
+    FuelFillImportResponse importFills(UUID userId, List<FuelFillCreateRequest> rows);
+
+    int applyVehicleFills(UUID userId, UUID vehicleId, List<SyncPushRequest.FuelFillItem> fills);
+
     List<FuelFillResponse> getFillsForVehicle(UUID userId, UUID vehicleId);
 
+    FuelFillColumnsResponse getFillColumnsForVehicle(UUID userId, UUID vehicleId);
+
+    // ETag of the fill list, or null when the vehicle has no aggregate to derive it from yet
+    String getFillsETag(UUID userId, UUID vehicleId);
+
+    FuelFillPageResponse getFillsPage(UUID userId, UUID vehicleId, int size, String cursor, boolean newestFirst);
+
+    void verifyVehicleAccess(UUID userId, UUID vehicleId);
+
+    void exportFills(UUID userId, UUID vehicleId, Consumer<FuelFillResponse> sink);
+
     VehicleFuelStatsResponse computeVehicleStats(UUID userId, UUID vehicleId);
+
+    List<FleetVehicleStatsResponse> computeFleetStats(UUID userId);
+
+    void rebuildVehicleStats(UUID vehicleId);
 }
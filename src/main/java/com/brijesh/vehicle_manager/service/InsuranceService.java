@@ -0,0 +1,24 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.dto.InsuranceRequest;
+import com.brijesh.vehicle_manager.dto.InsuranceResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface InsuranceService {
+
+    InsuranceResponse createPolicy(UUID userId, InsuranceRequest req);
+
+    List<InsuranceResponse> listPolicies(UUID userId, UUID vehicleId);
+
+    InsuranceResponse updatePolicy(UUID userId, UUID policyId, InsuranceRequest req);
+
+    void deletePolicy(UUID userId, UUID policyId);
+
+    // Used by InsuranceExpiryJob; returns the cursor for the next chunk, null when done
+    ExpiryCursor notifyExpiring(LocalDate today, ExpiryCursor after, int chunkSize);
+
+    record ExpiryCursor(LocalDate expiryDate, UUID id) {}
+}
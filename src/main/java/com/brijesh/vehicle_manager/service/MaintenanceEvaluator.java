@@ -0,0 +1,96 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.repository.MaintenanceRuleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evaluates maintenance rules when a vehicle's odometer advances.
+ * Each vehicle's rules are compiled into one number, the lowest next-due odometer of its pending rules, kept in
+ * memory; an odometer update below it costs no query. Crossing it marks the due rules in one update and drops
+ * the cached threshold so it is recomputed on the next reading. Date thresholds go through the indexed
+ * nextDueDate column once a day instead.
+ * Rule changes drop the threshold only on the instance that made them; the TTL bounds how long another
+ * instance keeps evaluating against an old one.
+ */
+@Slf4j
+@Component
+public class MaintenanceEvaluator {
+
+    private static final long NO_RULES = Long.MAX_VALUE;
+
+    private final MaintenanceRuleRepository ruleRepository;
+    private final Cache<UUID, Long> nextDueOdometer;
+    // bumped by every invalidation; a threshold computed across one is not cached, as in VehicleOwnershipCache
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MaintenanceEvaluator(MaintenanceRuleRepository ruleRepository,
+                                @Value("${app.maintenance.threshold-cache.max-size:50000}") long maxSize,
+                                @Value("${app.maintenance.threshold-cache.ttl:10m}") Duration ttl) {
+        this.ruleRepository = ruleRepository;
+        this.nextDueOdometer = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Called in the transaction that moved the odometer forward.
+     */
+    public void onOdometer(UUID vehicleId, long odometer) {
+        // getIfPresent + put rather than a loader, see VehicleOwnershipCache
+        Long threshold = nextDueOdometer.getIfPresent(vehicleId);
+        if (threshold == null) {
+            long generation = invalidations.get();
+            Long min = ruleRepository.findNextDueOdometer(vehicleId);
+            threshold = min != null ? min : NO_RULES;
+            // otherwise a minimum read before a rule change committed could be put back after both invalidations
+            if (invalidations.get() == generation) nextDueOdometer.put(vehicleId, threshold);
+        }
+        if (odometer < threshold) return;
+
+        int marked = ruleRepository.markDueByOdometer(vehicleId, odometer, Instant.now());
+        if (marked > 0) log.info("{} maintenance rules of vehicle {} became due at {} km", marked, vehicleId, odometer);
+        invalidate(vehicleId);
+    }
+
+    /**
+     * Drop a vehicle's threshold now and after the transaction completes (rules were added, changed or marked).
+     */
+    public void invalidate(UUID vehicleId) {
+        drop(vehicleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop(vehicleId);
+                }
+            });
+        }
+    }
+
+    private void drop(UUID vehicleId) {
+        invalidations.incrementAndGet();
+        nextDueOdometer.invalidate(vehicleId);
+    }
+
+    @Scheduled(cron = "${app.maintenance.date-check-cron:0 5 0 * * *}")
+    @Transactional
+    public void markDueByDate() {
+        int marked = ruleRepository.markDueByDate(LocalDate.now(), Instant.now());
+        if (marked > 0) log.info("{} maintenance rules became due by date", marked);
+    }
+}
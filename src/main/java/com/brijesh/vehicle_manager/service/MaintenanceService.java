@@ -0,0 +1,21 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.dto.MaintenanceCompleteRequest;
+import com.brijesh.vehicle_manager.dto.MaintenanceRuleRequest;
+import com.brijesh.vehicle_manager.dto.MaintenanceRuleResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface MaintenanceService {
+
+    MaintenanceRuleResponse createRule(UUID userId, MaintenanceRuleRequest req);
+
+    List<MaintenanceRuleResponse> listRules(UUID userId, UUID vehicleId);
+
+    MaintenanceRuleResponse updateRule(UUID userId, UUID ruleId, MaintenanceRuleRequest req);
+
+    void deleteRule(UUID userId, UUID ruleId);
+
+    MaintenanceRuleResponse completeRule(UUID userId, UUID ruleId, MaintenanceCompleteRequest req);
+}
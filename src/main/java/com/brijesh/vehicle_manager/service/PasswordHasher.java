@@ -0,0 +1,121 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a login burst cannot occupy the request threads.
+ * - Bounded queue: when it is full, or a caller has waited longer than the timeout, the request fails
+ *   with ServiceUnavailableException (503) instead of piling up
+ * - Metrics: executor.* (name=passwordHashing) for queue depth and pool usage, auth.password.hash timer
+ *   (op=encode|matches|rehash) and auth.password.hash.rejected counter
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer rehashTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.auth.hashing.threads:0}") int threads,
+                          @Value("${app.auth.hashing.queue-capacity:100}") int queueCapacity,
+                          @Value("${app.auth.hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        // hashing is CPU bound: more threads than cores only adds contention
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "passwordHashing", Tags.empty()).bindTo(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(meterRegistry);
+        this.rehashTimer = Timer.builder("auth.password.hash").tag("op", "rehash").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hash.rejected").register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return await(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String hash) {
+        return await(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, hash)));
+    }
+
+    /**
+     * If the hash was made with a weaker work factor than configured, re-hash in the background and hand
+     * the new hash to onRehashed. Skipped silently when the pool is saturated; the next login tries again.
+     */
+    public void upgradeIfNeeded(String rawPassword, String hash, Consumer<String> onRehashed) {
+        if (!passwordEncoder.upgradeEncoding(hash)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    onRehashed.accept(rehashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+                } catch (RuntimeException ex) {
+                    log.warn("Password re-hash failed", ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            log.debug("Password re-hash skipped, hashing pool is saturated");
+        }
+    }
+
+    private <T> T await(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            // still queued: drop it so the pool does not work for a caller that has given up
+            future.cancel(false);
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        } catch (InterruptedException ex) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
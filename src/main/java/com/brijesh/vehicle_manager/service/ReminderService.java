@@ -1,4 +1,31 @@
 package com.brijesh.vehicle_manager.service;
 
+import com.brijesh.vehicle_manager.dto.ReminderCreateRequest;
+import com.brijesh.vehicle_manager.dto.ReminderLogResponse;
+import com.brijesh.vehicle_manager.dto.ReminderResponse;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
 public interface ReminderService {
+
+    ReminderResponse createReminder(UUID userId, ReminderCreateRequest req);
+
+    List<ReminderResponse> listReminders(UUID userId, UUID vehicleId);
+
+    void deleteReminder(UUID userId, UUID reminderId);
+
+    List<ReminderLogResponse> recentFired(UUID userId, int limit);
+
+    // Used by ReminderScheduler
+
+    List<Due> findDueBefore(Instant until, int limit);
+
+    List<Due> fire(List<Due> due);
+
+    /**
+     * One pending occurrence. Also published (after commit) whenever a reminder gets a new due time.
+     */
+    record Due(UUID reminderId, Instant dueAt) {}
 }
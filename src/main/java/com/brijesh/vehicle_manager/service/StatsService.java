@@ -1,4 +1,16 @@
 package com.brijesh.vehicle_manager.service;
 
+import com.brijesh.vehicle_manager.dto.MonthlyFuelStatsResponse;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
 public interface StatsService {
+
+    List<MonthlyFuelStatsResponse> getMonthlyStats(UUID userId, YearMonth from, YearMonth to);
+
+    List<MonthlyFuelStatsResponse> getVehicleMonthlyStats(UUID userId, UUID vehicleId, YearMonth from, YearMonth to);
+
+    void rebuildMonthlyRollups(UUID vehicleId);
 }
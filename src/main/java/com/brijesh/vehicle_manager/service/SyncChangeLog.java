@@ -0,0 +1,53 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.entity.SyncMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends to the sync_metadata change log inside the caller's transaction.
+ * Plain JDBC batch on the transaction's connection: IDENTITY ids would make Hibernate insert row by row,
+ * which bulk imports cannot afford. Call it as late as possible in the transaction to keep the gap
+ * between changedAt and commit short (see SyncServiceImpl).
+ */
+@Component
+@RequiredArgsConstructor
+public class SyncChangeLog {
+
+    private static final String INSERT_CHANGE =
+            "insert into sync_metadata (owner_id, entity_type, entity_id, changed_at) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void recordChange(UUID ownerId, SyncMetadata.EntityType type, UUID entityId) {
+        recordChanges(ownerId, type, List.of(entityId));
+    }
+
+    public void recordChanges(UUID ownerId, SyncMetadata.EntityType type, Collection<UUID> entityIds) {
+        if (entityIds.isEmpty()) return;
+        byte[] owner = toBytes(ownerId);
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(entityIds.size());
+        for (UUID id : entityIds) {
+            args.add(new Object[]{owner, type.name(), toBytes(id), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, args);
+    }
+
+    // Same layout Hibernate uses for UUID columns on MySQL (binary(16), most significant bits first)
+    static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -1,4 +1,16 @@
 package com.brijesh.vehicle_manager.service;
 
+import com.brijesh.vehicle_manager.dto.SyncChangesResponse;
+import com.brijesh.vehicle_manager.dto.SyncPushRequest;
+import com.brijesh.vehicle_manager.dto.SyncPushResponse;
+
+import java.util.UUID;
+
 public interface SyncService {
+
+    SyncChangesResponse getChanges(UUID ownerId, long since, int limit);
+
+    long currentCursor(UUID ownerId);
+
+    SyncPushResponse push(UUID ownerId, SyncPushRequest req);
 }
@@ -0,0 +1,61 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.entity.Vehicle;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Forward-only odometer advance for the fill paths, as one conditional UPDATE on the transaction's connection.
+ * The comparison happens in the database, so neither a stale second-level cache copy (changes made by other
+ * instances) nor a concurrent vehicle update can make the odometer go backwards.
+ * Plain JDBC rather than a bulk HQL update: Hibernate would evict the whole Vehicle region and bump the vehicles
+ * table timestamp, invalidating every cached vehicle query on each fill. Instead only this vehicle's entry is
+ * evicted, now and after completion (a concurrent reader may have re-cached the old row meanwhile).
+ */
+@Component
+@RequiredArgsConstructor
+public class VehicleOdometer {
+
+    private static final String ADVANCE =
+            "update vehicles set current_odometer = ?, updated_at = ? " +
+            "where id = ? and (current_odometer is null or current_odometer < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * True if the odometer moved. Must run inside the caller's transaction.
+     */
+    public boolean advance(UUID vehicleId, long odometer) {
+        // a vehicle created earlier in this transaction (sync push) must be inserted before the UPDATE can see it
+        entityManager.flush();
+        int updated = jdbcTemplate.update(ADVANCE, odometer, Timestamp.from(Instant.now()),
+                SyncChangeLog.toBytes(vehicleId), odometer);
+        if (updated == 0) return false;
+
+        evict(vehicleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(vehicleId);
+                }
+            });
+        }
+        return true;
+    }
+
+    private void evict(UUID vehicleId) {
+        entityManagerFactory.getCache().evict(Vehicle.class, vehicleId);
+    }
+}
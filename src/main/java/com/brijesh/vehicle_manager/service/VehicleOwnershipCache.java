@@ -0,0 +1,89 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.exception.ForbiddenException;
+import com.brijesh.vehicle_manager.exception.ResourceNotFoundException;
+import com.brijesh.vehicle_manager.repository.VehicleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process vehicleId -> (ownerId, deleted) cache for the ownership checks on the fuel endpoints.
+ * Entries are evicted by VehicleServiceImpl when a vehicle changes; the TTL only bounds staleness
+ * for changes made by other instances. Hit/miss counts are published as cache.* metrics (cache=vehicleOwnership).
+ */
+@Component
+public class VehicleOwnershipCache {
+
+    private final VehicleRepository vehicleRepository;
+    private final Cache<UUID, Ownership> cache;
+    // bumped by every eviction; a load that overlapped one does not cache its (possibly pre-commit) result.
+    // One counter for all vehicles: evictions are rare, and a skipped put only costs a later query
+    private final AtomicLong evictions = new AtomicLong();
+
+    public VehicleOwnershipCache(VehicleRepository vehicleRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.vehicle.ownership-cache.max-size:50000}") long maxSize,
+                                 @Value("${app.vehicle.ownership-cache.ttl:10m}") Duration ttl) {
+        this.vehicleRepository = vehicleRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "vehicleOwnership");
+    }
+
+    /**
+     * Throws ResourceNotFoundException for unknown/deleted vehicles and ForbiddenException for someone else's.
+     */
+    public void requireOwner(UUID userId, UUID vehicleId) {
+        // Not cache.get(key, loader): the loader would run the query while holding a ConcurrentHashMap bin lock
+        // (synchronized), pinning a virtual thread's carrier for the whole DB round-trip. Unknown ids are not cached.
+        Ownership ownership = cache.getIfPresent(vehicleId);
+        if (ownership == null) {
+            long generation = evictions.get();
+            ownership = vehicleRepository.findOwnershipById(vehicleId)
+                    .map(o -> new Ownership(o.getOwnerId(), o.isDeleted()))
+                    .orElse(null);
+            // otherwise a row read before a delete committed could be put back after both invalidations
+            if (ownership != null && evictions.get() == generation) cache.put(vehicleId, ownership);
+        }
+
+        if (ownership == null || ownership.deleted()) throw new ResourceNotFoundException("Vehicle not found");
+        if (!ownership.ownerId().equals(userId)) throw new ForbiddenException("You do not own this vehicle");
+    }
+
+    /**
+     * Drop a vehicle's entry now and again once the surrounding transaction completes,
+     * so neither a concurrent reader (pre-commit state) nor the writer itself (state later rolled back)
+     * leaves a stale entry behind. Loads in flight during either invalidation are not cached.
+     */
+    public void evict(UUID vehicleId) {
+        invalidate(vehicleId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(vehicleId);
+                }
+            });
+        }
+    }
+
+    private void invalidate(UUID vehicleId) {
+        evictions.incrementAndGet();
+        cache.invalidate(vehicleId);
+    }
+
+    private record Ownership(UUID ownerId, boolean deleted) {}
+}
@@ -12,12 +12,22 @@ public interface VehicleService {
     @Transactional
     VehicleResponse createVehicle(UUID ownerId, VehicleCreateRequest req);
 
+    @Transactional
+    VehicleResponse createVehicle(UUID ownerId, UUID vehicleId, VehicleCreateRequest req);
+
     @Transactional(readOnly = true)
     List<VehicleResponse> listVehicles(UUID ownerId);
 
     @Transactional(readOnly = true)
     VehicleResponse getVehicle(UUID ownerId, UUID vehicleId);
 
+    // ETags for conditional GETs, read from version columns only
+    @Transactional(readOnly = true)
+    String getVehicleListETag(UUID ownerId);
+
+    @Transactional(readOnly = true)
+    String getVehicleETag(UUID ownerId, UUID vehicleId);
+
     @Transactional
     VehicleResponse updateVehicle(UUID ownerId, UUID vehicleId, VehicleUpdateRequest req);
 
@@ -7,12 +7,17 @@ import com.brijesh.vehicle_manager.entity.RefreshToken;
 import com.brijesh.vehicle_manager.entity.User;
 import com.brijesh.vehicle_manager.repository.RefreshTokenRepository;
 import com.brijesh.vehicle_manager.repository.UserRepository;
+import com.brijesh.vehicle_manager.service.AccessTokenRevocations;
+import com.brijesh.vehicle_manager.service.PasswordHasher;
 import com.brijesh.vehicle_manager.util.JwtUtil;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.brijesh.vehicle_manager.util.UuidV7;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -20,6 +25,9 @@ import java.util.UUID;
  * - register: create user -> issue tokens and persist refresh token
  * - login: validate password -> issue tokens and persist refresh token (rotating)
  * - refresh: validate provided refresh token exists and not expired -> rotate (delete old, store new) and issue new access token
+ * - passwords are hashed on PasswordHasher's bounded pool, outside any transaction
+ * - logout: delete refresh tokens and set the user's access token watermark (see AccessTokenRevocations)
+ * - refresh tokens are looked up by their SHA-256; expired ones are purged in batches by RefreshTokenPurgeJob
  */
 @Service
 public class AuthServiceImpl implements com.brijesh.vehicle_manager.service.AuthService {
@@ -27,19 +35,25 @@ public class AuthServiceImpl implements com.brijesh.vehicle_manager.service.Auth
     private final UserRepository userRepo;
     private final RefreshTokenRepository refreshRepo;
     private final JwtUtil jwtUtil;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final AccessTokenRevocations revocations;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthServiceImpl(UserRepository userRepo,
                            RefreshTokenRepository refreshRepo,
                            JwtUtil jwtUtil,
-                           PasswordEncoder passwordEncoder) {
+                           PasswordHasher passwordHasher,
+                           AccessTokenRevocations revocations,
+                           TransactionTemplate transactionTemplate) {
         this.userRepo = userRepo;
         this.refreshRepo = refreshRepo;
         this.jwtUtil = jwtUtil;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.revocations = revocations;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    @Transactional
+    // Not @Transactional: the hash is computed first so no DB connection is held while waiting for the hashing pool
     @Override
     public AuthResponse register(RegisterRequest req) {
         // ensure unique email
@@ -48,54 +62,57 @@ public class AuthServiceImpl implements com.brijesh.vehicle_manager.service.Auth
         });
 
         User u = new User();
-        u.setId(UUID.randomUUID());
+        u.setId(UuidV7.generate());
         u.setEmail(req.getEmail().toLowerCase());
-        u.setPasswordHash(passwordEncoder.encode(req.getPassword()));
+        u.setPasswordHash(passwordHasher.encode(req.getPassword()));
         u.setDisplayName(req.getDisplayName());
-        userRepo.save(u);
 
-        String access = jwtUtil.generateAccessToken(u.getId());
-        String refresh = jwtUtil.generateRefreshToken(u.getId());
+        return transactionTemplate.execute(status -> {
+            userRepo.save(u);
 
-        // Persist refresh token for rotation/revocation
-        RefreshToken rt = new RefreshToken();
-        rt.setToken(refresh);
-        rt.setUserId(u.getId());
-        rt.setExpiresAt(jwtUtil.getExpiration(refresh));
-        refreshRepo.deleteByUserId(u.getId()); // clean existing
-        refreshRepo.save(rt);
+            String access = jwtUtil.generateAccessToken(u.getId());
+            String refresh = jwtUtil.generateRefreshToken(u.getId());
 
-        long expiresIn = jwtUtil.getExpiration(access).getEpochSecond() - Instant.now().getEpochSecond();
-        return new AuthResponse(access, refresh, expiresIn);
+            // Persist refresh token for rotation/revocation
+            refreshRepo.deleteByUserId(u.getId()); // clean existing
+            storeRefreshToken(u.getId(), refresh);
+
+            long expiresIn = jwtUtil.getExpiration(access).getEpochSecond() - Instant.now().getEpochSecond();
+            return new AuthResponse(access, refresh, expiresIn);
+        });
     }
 
-    @Transactional
+    // Not @Transactional, same reason as register
     @Override
     public AuthResponse login(AuthRequest req) {
-        User u = userRepo.findByEmail(req.getEmail().toLowerCase()).orElseThrow(() -> new IllegalStateException("Invalid credentials"));
-        if (!passwordEncoder.matches(req.getPassword(), u.getPasswordHash())) {
+        // read-write template keeps the lookup on the primary: with read replicas enabled, a user who just
+        // registered (no principal yet, so no read-your-writes guard) could otherwise miss on a lagging replica
+        User u = transactionTemplate.execute(status -> userRepo.findByEmail(req.getEmail().toLowerCase()))
+                .orElseThrow(() -> new IllegalStateException("Invalid credentials"));
+        if (!passwordHasher.matches(req.getPassword(), u.getPasswordHash())) {
             throw new IllegalStateException("Invalid credentials");
         }
+        // work factor raised since this hash was made: replace it without delaying the response
+        passwordHasher.upgradeIfNeeded(req.getPassword(), u.getPasswordHash(),
+                newHash -> userRepo.updatePasswordHash(u.getId(), u.getPasswordHash(), newHash));
 
-        String access = jwtUtil.generateAccessToken(u.getId());
-        String refresh = jwtUtil.generateRefreshToken(u.getId());
+        return transactionTemplate.execute(status -> {
+            String access = jwtUtil.generateAccessToken(u.getId());
+            String refresh = jwtUtil.generateRefreshToken(u.getId());
 
-        // rotate refresh token: delete old and save new
-        refreshRepo.deleteByUserId(u.getId());
-        RefreshToken rt = new RefreshToken();
-        rt.setToken(refresh);
-        rt.setUserId(u.getId());
-        rt.setExpiresAt(jwtUtil.getExpiration(refresh));
-        refreshRepo.save(rt);
+            // rotate refresh token: delete old and save new
+            refreshRepo.deleteByUserId(u.getId());
+            storeRefreshToken(u.getId(), refresh);
 
-        long expiresIn = jwtUtil.getExpiration(access).getEpochSecond() - Instant.now().getEpochSecond();
-        return new AuthResponse(access, refresh, expiresIn);
+            long expiresIn = jwtUtil.getExpiration(access).getEpochSecond() - Instant.now().getEpochSecond();
+            return new AuthResponse(access, refresh, expiresIn);
+        });
     }
 
     @Transactional
     @Override
     public AuthResponse refresh(String oldRefreshToken) {
-        RefreshToken stored = refreshRepo.findByToken(oldRefreshToken).orElseThrow(() -> new IllegalStateException("Invalid refresh token"));
+        RefreshToken stored = refreshRepo.findByTokenHash(JwtUtil.digest(oldRefreshToken)).orElseThrow(() -> new IllegalStateException("Invalid refresh token"));
         if (stored.getExpiresAt().isBefore(Instant.now())) {
             refreshRepo.delete(stored);
             throw new IllegalStateException("Refresh token expired");
@@ -106,11 +123,7 @@ public class AuthServiceImpl implements com.brijesh.vehicle_manager.service.Auth
         refreshRepo.delete(stored);
 
         String newRefresh = jwtUtil.generateRefreshToken(userId);
-        RefreshToken rt = new RefreshToken();
-        rt.setToken(newRefresh);
-        rt.setUserId(userId);
-        rt.setExpiresAt(jwtUtil.getExpiration(newRefresh));
-        refreshRepo.save(rt);
+        storeRefreshToken(userId, newRefresh);
 
         String access = jwtUtil.generateAccessToken(userId);
         long expiresIn = jwtUtil.getExpiration(access).getEpochSecond() - Instant.now().getEpochSecond();
@@ -121,5 +134,28 @@ public class AuthServiceImpl implements com.brijesh.vehicle_manager.service.Auth
     @Override
     public void logout(UUID userId) {
         refreshRepo.deleteByUserId(userId);
+        // also cut off access tokens already handed out
+        Instant now = Instant.now();
+        // entity update, not bulk HQL, so only this user's cache entry is replaced
+        userRepo.findById(userId).ifPresent(u -> u.setTokensValidAfter(now));
+        revocations.revoke(userId, now);
+    }
+
+    @Transactional
+    @Override
+    public int purgeExpiredRefreshTokens(Instant now, int batchSize) {
+        List<Long> ids = refreshRepo.findExpiredIds(now, PageRequest.of(0, batchSize));
+        if (!ids.isEmpty()) {
+            refreshRepo.deleteAllByIdInBatch(ids);
+        }
+        return ids.size();
+    }
+
+    private void storeRefreshToken(UUID userId, String token) {
+        RefreshToken rt = new RefreshToken();
+        rt.setTokenHash(JwtUtil.digest(token));
+        rt.setUserId(userId);
+        rt.setExpiresAt(jwtUtil.getExpiration(token));
+        refreshRepo.save(rt);
     }
 }
@@ -1,37 +1,75 @@
 package com.brijesh.vehicle_manager.service.impl;
 
+import com.brijesh.vehicle_manager.dto.FleetVehicleStatsResponse;
+import com.brijesh.vehicle_manager.dto.FuelFillColumnsResponse;
 import com.brijesh.vehicle_manager.dto.FuelFillCreateRequest;
+import com.brijesh.vehicle_manager.dto.FuelFillImportResponse;
+import com.brijesh.vehicle_manager.dto.FuelFillPageResponse;
 import com.brijesh.vehicle_manager.dto.FuelFillResponse;
+import com.brijesh.vehicle_manager.dto.SyncPushRequest;
 import com.brijesh.vehicle_manager.dto.VehicleFuelStatsResponse;
 import com.brijesh.vehicle_manager.entity.FuelFill;
-import com.brijesh.vehicle_manager.entity.Vehicle;
-import com.brijesh.vehicle_manager.exception.ForbiddenException;
-import com.brijesh.vehicle_manager.exception.ResourceNotFoundException;
+import com.brijesh.vehicle_manager.entity.FuelMonthlyRollup;
+import com.brijesh.vehicle_manager.entity.SyncMetadata;
+import com.brijesh.vehicle_manager.entity.VehicleFuelStats;
 import com.brijesh.vehicle_manager.mapper.FuelFillMapper;
+import com.brijesh.vehicle_manager.mapper.FuelStatsMapper;
 import com.brijesh.vehicle_manager.repository.FuelFillRepository;
-import com.brijesh.vehicle_manager.repository.VehicleRepository;
+import com.brijesh.vehicle_manager.repository.FuelMonthlyRollupRepository;
+import com.brijesh.vehicle_manager.repository.VehicleFuelStatsRepository;
 import com.brijesh.vehicle_manager.service.FuelFillService;
-import com.brijesh.vehicle_manager.util.MileageUtil;
+import com.brijesh.vehicle_manager.service.MaintenanceEvaluator;
+import com.brijesh.vehicle_manager.service.SyncChangeLog;
+import com.brijesh.vehicle_manager.service.VehicleOdometer;
+import com.brijesh.vehicle_manager.service.VehicleOwnershipCache;
+import com.brijesh.vehicle_manager.util.ETags;
+import com.brijesh.vehicle_manager.util.FillCursor;
+import com.brijesh.vehicle_manager.util.MileageCalculator;
+import com.brijesh.vehicle_manager.util.UuidV7;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class FuelFillServiceImpl implements FuelFillService {
 
     private final FuelFillRepository fuelFillRepository;
-    private final VehicleRepository vehicleRepository;
+    private final VehicleFuelStatsRepository statsRepository;
+    private final FuelMonthlyRollupRepository rollupRepository;
+    private final VehicleOwnershipCache ownershipCache;
+    private final VehicleOdometer vehicleOdometer;
+    private final MaintenanceEvaluator maintenanceEvaluator;
+    private final SyncChangeLog syncChangeLog;
     private final FuelFillMapper mapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
 
     private static final int ROLLING_WINDOW = 5;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int IMPORT_CHUNK_SIZE = 500;
 
     /**
      * Create and persist a fuel fill. If fuelVolume or pricePerLiter missing, attempt estimation from history.
@@ -40,15 +78,15 @@ public class FuelFillServiceImpl implements FuelFillService {
     @Override
     @Transactional
     public FuelFillResponse createFuelFill(UUID userId, FuelFillCreateRequest req) {
-        Vehicle vehicle = vehicleRepository.findById(req.getVehicleId())
-                .orElseThrow(() -> new ResourceNotFoundException("Vehicle not found"));
+        ownershipCache.requireOwner(userId, req.getVehicleId());
 
-        if (!vehicle.getOwnerId().equals(userId)) {
-            throw new ForbiddenException("You do not own this vehicle");
-        }
+        // lock first: fills of one vehicle are then measured one at a time, never two against the same previous fill
+        VehicleFuelStats stats = lockStats(req.getVehicleId());
 
-        // get vehicle history (oldest->newest)
-        List<FuelFill> history = fuelFillRepository.findByVehicleIdOrderByFillDateAsc(req.getVehicleId());
+        // previous fill at or before this date; rolling windows are fetched only when something must be estimated
+        FuelFill previous = fuelFillRepository
+                .findFirstByVehicleIdAndFillDateLessThanEqualOrderByFillDateDescCreatedAtDesc(req.getVehicleId(), req.getFillDate())
+                .orElse(null);
 
         // compute default values / estimations
         BigDecimal fuelVolume = BigDecimal.valueOf(req.getLiters());
@@ -56,30 +94,21 @@ public class FuelFillServiceImpl implements FuelFillService {
         boolean estimated = false;
 
         // estimate fuelVolume if null (distance since last known fill / rolling avg mileage)
-        if (fuelVolume == null) {
-            // find last fill (latest before this date)
-            var prevOpt = history.stream()
-                    .filter(f -> !f.getFillDate().isAfter(req.getFillDate()))
-                    .max(Comparator.comparing(FuelFill::getFillDate));
-
-            if (prevOpt.isPresent()) {
-                FuelFill last = prevOpt.get();
-                if (last.getOdometerReading() != null) {
-                    long distance = req.getOdometer() - last.getOdometerReading();
-                    BigDecimal rollingMileage = MileageUtil.rollingAvgMileage(history, ROLLING_WINDOW);
-
-                    if (rollingMileage != null && rollingMileage.compareTo(BigDecimal.ZERO) > 0) {
-                        fuelVolume = BigDecimal.valueOf(distance).divide(rollingMileage, 6, BigDecimal.ROUND_HALF_UP)
-                                .setScale(3, BigDecimal.ROUND_HALF_UP);
-                        estimated = true;
-                    }
-                }
-            }
+        if (fuelVolume == null && previous != null && previous.getOdometerReading() != null) {
+            long distance = req.getOdometer() - previous.getOdometerReading();
+            BigDecimal rollingMileage = MileageCalculator.rollingAvgMileage(
+                    fuelFillRepository.findRecentWithMileage(req.getVehicleId(), PageRequest.of(0, ROLLING_WINDOW)),
+                    ROLLING_WINDOW);
+
+            fuelVolume = MileageCalculator.estimateVolume(distance, rollingMileage);
+            estimated = fuelVolume != null;
         }
 
         // estimate pricePerLiter if null (rolling average)
         if (pricePerLiter == null) {
-            BigDecimal rollingPrice = MileageUtil.rollingAvgPrice(history, ROLLING_WINDOW);
+            BigDecimal rollingPrice = MileageCalculator.rollingAvgPrice(
+                    fuelFillRepository.findRecentWithPrice(req.getVehicleId(), PageRequest.of(0, ROLLING_WINDOW)),
+                    ROLLING_WINDOW);
             if (rollingPrice != null) {
                 pricePerLiter = rollingPrice;
                 estimated = true;
@@ -91,57 +120,96 @@ public class FuelFillServiceImpl implements FuelFillService {
             throw new IllegalArgumentException("Insufficient data to estimate fields. Provide fuelVolume and pricePerLiter for the first fill.");
         }
 
-        BigDecimal totalAmount = MileageUtil.multiply(fuelVolume, pricePerLiter);
+        BigDecimal totalAmount = MileageCalculator.multiply(fuelVolume, pricePerLiter);
 
         // compute mileage using previous odometer reading if possible
-        BigDecimal mileage = null;
-        var prevOpt = history.stream()
-                .filter(f -> !f.getFillDate().isAfter(req.getFillDate()))
-                .max(Comparator.comparing(FuelFill::getFillDate));
-        if (prevOpt.isPresent()) {
-            FuelFill last = prevOpt.get();
-            if (last.getOdometerReading() != null && fuelVolume.compareTo(BigDecimal.ZERO) > 0) {
-                long distance = req.getOdometer() - last.getOdometerReading();
-                if (distance > 0) {
-                    mileage = MileageUtil.computeMileage(distance, fuelVolume);
-                }
-            }
-        }
-
-        // --- Update Vehicle current odometer ---
-        if (vehicle.getCurrentOdometer() == null ||
-                req.getOdometer() > vehicle.getCurrentOdometer()) {
+        BigDecimal mileage = mileageSince(previous, req.getOdometer(), fuelVolume);
 
-            vehicle.setCurrentOdometer(req.getOdometer());
-            vehicle.setUpdatedAt(Instant.now());
-            vehicleRepository.save(vehicle);
-        }
+        FuelFill f = newFill(UuidV7.generate(), userId, req, fuelVolume, pricePerLiter, totalAmount, mileage, estimated);
 
+        // keep the per-vehicle aggregate and the monthly rollups in step with the insert (same transaction)
+        stats.apply(f);
+        FuelFill next = fuelFillRepository
+                .findFirstByVehicleIdAndFillDateGreaterThanOrderByFillDateAscCreatedAtAscIdAsc(req.getVehicleId(), req.getFillDate())
+                .orElse(null);
+        Map<LocalDate, FuelMonthlyRollup> rollups = loadRollups(req.getVehicleId(), req.getFillDate(),
+                next != null ? next.getFillDate() : req.getFillDate());
+        rollupFor(rollups, userId, req.getVehicleId(), req.getFillDate()).apply(f, distanceSince(previous, req.getOdometer()));
+        if (next != null) remeasure(next, previous, f, rollupFor(rollups, userId, req.getVehicleId(), next.getFillDate()));
 
-        FuelFill f = FuelFill.builder()
-                .id(UUID.randomUUID())
-                .userId(userId)
-                .vehicleId(req.getVehicleId())
-                .fillDate(req.getFillDate())
-                .odometerReading(req.getOdometer())
-                .fuelVolume(fuelVolume)
-                .pricePerLiter(pricePerLiter)
-                .totalAmount(totalAmount)
-                .mileage(mileage)
-                .estimated(estimated)
-                .createdAt(Instant.now())
-                .build();
+        // --- Update Vehicle current odometer (forward only; after the stats lock like import) ---
+        boolean odometerMoved = vehicleOdometer.advance(req.getVehicleId(), req.getOdometer());
 
         fuelFillRepository.save(f);
+        statsRepository.save(stats);
+        rollupRepository.saveAll(rollups.values());
+
+        syncChangeLog.recordChange(userId, SyncMetadata.EntityType.FUEL_FILL, f.getId());
+        if (next != null) syncChangeLog.recordChange(userId, SyncMetadata.EntityType.FUEL_FILL, next.getId());
+        if (odometerMoved) {
+            syncChangeLog.recordChange(userId, SyncMetadata.EntityType.VEHICLE, req.getVehicleId());
+            maintenanceEvaluator.onOdometer(req.getVehicleId(), req.getOdometer());
+        }
         return mapper.toResponse(f);
     }
 
+    /**
+     * Bulk import. Rows are validated one by one, grouped per vehicle and applied oldest-first in one
+     * transaction per vehicle, with inserts sent as JDBC batches. A failing vehicle only fails its own rows.
+     */
+    @Override
+    public FuelFillImportResponse importFills(UUID userId, List<FuelFillCreateRequest> rows) {
+        List<FuelFillImportResponse.RowError> errors = new ArrayList<>();
+        Map<UUID, List<ImportRow>> byVehicle = new LinkedHashMap<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            FuelFillCreateRequest req = rows.get(i);
+            String problem = validateRow(req);
+            if (problem != null) {
+                errors.add(new FuelFillImportResponse.RowError(i, problem));
+                continue;
+            }
+            byVehicle.computeIfAbsent(req.getVehicleId(), k -> new ArrayList<>()).add(new ImportRow(i, req, UuidV7.generate()));
+        }
+
+        int imported = 0;
+        for (Map.Entry<UUID, List<ImportRow>> group : byVehicle.entrySet()) {
+            try {
+                Integer count = transactionTemplate.execute(status -> importVehicleRows(userId, group.getKey(), group.getValue()));
+                imported += count == null ? 0 : count;
+            } catch (RuntimeException ex) {
+                for (ImportRow row : group.getValue()) {
+                    errors.add(new FuelFillImportResponse.RowError(row.index(), ex.getMessage()));
+                }
+            }
+        }
+
+        errors.sort(Comparator.comparingInt(FuelFillImportResponse.RowError::getIndex));
+        return new FuelFillImportResponse(rows.size(), imported, errors);
+    }
+
+    /**
+     * Insert already validated fills of one vehicle, keeping their client-generated ids, in the caller's
+     * transaction. Same ordered, batched path as import.
+     */
+    @Override
+    @Transactional
+    public int applyVehicleFills(UUID userId, UUID vehicleId, List<SyncPushRequest.FuelFillItem> fills) {
+        List<ImportRow> rows = new ArrayList<>(fills.size());
+        for (int i = 0; i < fills.size(); i++) {
+            SyncPushRequest.FuelFillItem req = fills.get(i);
+            if (!vehicleId.equals(req.getVehicleId())) {
+                throw new IllegalArgumentException("Fill " + req.getId() + " belongs to another vehicle");
+            }
+            rows.add(new ImportRow(i, req, req.getId()));
+        }
+        return importVehicleRows(userId, vehicleId, rows);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<FuelFillResponse> getFillsForVehicle(UUID userId, UUID vehicleId) {
-        Vehicle vehicle = vehicleRepository.findById(vehicleId)
-                .orElseThrow(() -> new ResourceNotFoundException("Vehicle not found"));
-        if (!vehicle.getOwnerId().equals(userId)) throw new ForbiddenException("You do not own this vehicle");
+        ownershipCache.requireOwner(userId, vehicleId);
 
         return fuelFillRepository.findByVehicleIdOrderByFillDateAsc(vehicleId).stream()
                 .map(mapper::toResponse)
@@ -150,56 +218,333 @@ public class FuelFillServiceImpl implements FuelFillService {
 
     @Override
     @Transactional(readOnly = true)
-    public VehicleFuelStatsResponse computeVehicleStats(UUID userId, UUID vehicleId) {
-        Vehicle vehicle = vehicleRepository.findById(vehicleId)
-                .orElseThrow(() -> new ResourceNotFoundException("Vehicle not found"));
-        if (!vehicle.getOwnerId().equals(userId)) throw new ForbiddenException("You do not own this vehicle");
+    public FuelFillColumnsResponse getFillColumnsForVehicle(UUID userId, UUID vehicleId) {
+        ownershipCache.requireOwner(userId, vehicleId);
+        return mapper.toColumns(vehicleId, fuelFillRepository.findByVehicleIdOrderByFillDateAsc(vehicleId));
+    }
 
-        List<FuelFill> history = fuelFillRepository.findByVehicleIdOrderByFillDateAsc(vehicleId);
+    @Override
+    @Transactional(readOnly = true)
+    public String getFillsETag(UUID userId, UUID vehicleId) {
+        ownershipCache.requireOwner(userId, vehicleId);
+        return statsRepository.findVersion(vehicleId)
+                .map(v -> ETags.of(v.getFillCount(), v.getUpdatedAt()))
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void verifyVehicleAccess(UUID userId, UUID vehicleId) {
+        ownershipCache.requireOwner(userId, vehicleId);
+    }
+
+    /**
+     * Streams the full history oldest-first into the sink, row by row on MySQL. Each entity is
+     * detached once handed over, so the persistence context does not grow with the history.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportFills(UUID userId, UUID vehicleId, Consumer<FuelFillResponse> sink) {
+        verifyVehicleAccess(userId, vehicleId);
+
+        try (Stream<FuelFill> fills = fuelFillRepository.streamByVehicleId(vehicleId)) {
+            fills.forEach(f -> {
+                sink.accept(mapper.toResponse(f));
+                entityManager.detach(f);
+            });
+        }
+    }
 
-        if (history.isEmpty()) {
-            return VehicleFuelStatsResponse.builder()
-                    .totalFuel(BigDecimal.ZERO)
-                    .totalCost(BigDecimal.ZERO)
-                    .totalDistance(0L)
-                    .averageMileage(null)
-                    .costPerKm(null)
-                    .extra(null)
-                    .build();
+    /**
+     * Keyset-paginated history. Reads size + 1 rows to know whether another page exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FuelFillPageResponse getFillsPage(UUID userId, UUID vehicleId, int size, String cursor, boolean newestFirst) {
+        ownershipCache.requireOwner(userId, vehicleId);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<FuelFill> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = newestFirst
+                    ? fuelFillRepository.findPageDesc(vehicleId, limit)
+                    : fuelFillRepository.findPageAsc(vehicleId, limit);
+        } else {
+            FillCursor after = FillCursor.decode(cursor);
+            if (after.newestFirst() != newestFirst) {
+                throw new IllegalArgumentException("Cursor was issued for the other sort order");
+            }
+            rows = newestFirst
+                    ? fuelFillRepository.findPageDescBefore(vehicleId, after.fillDate(), after.id(), limit)
+                    : fuelFillRepository.findPageAscAfter(vehicleId, after.fillDate(), after.id(), limit);
         }
 
-        BigDecimal totalFuel = history.stream()
-                .map(f -> f.getFuelVolume() == null ? BigDecimal.ZERO : f.getFuelVolume())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            FuelFill last = rows.get(rows.size() - 1);
+            nextCursor = new FillCursor(newestFirst, last.getFillDate(), last.getId()).encode();
+        }
 
-        BigDecimal totalCost = history.stream()
-                .map(f -> f.getTotalAmount() == null ? BigDecimal.ZERO : f.getTotalAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return FuelFillPageResponse.builder()
+                .items(rows.stream().map(mapper::toResponse).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
 
-        Long totalDistance = 0L;
-        if (history.size() >= 2) {
-            long first = history.get(0).getOdometerReading();
-            long last = history.get(history.size() - 1).getOdometerReading();
-            totalDistance = last - first;
+    /**
+     * Served from the stored aggregate; vehicles not yet backfilled fall back to database-side totals.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public VehicleFuelStatsResponse computeVehicleStats(UUID userId, UUID vehicleId) {
+        ownershipCache.requireOwner(userId, vehicleId);
+
+        VehicleFuelStats stats = statsRepository.findById(vehicleId)
+                .orElseGet(() -> loadStatsFromHistory(vehicleId));
+        return FuelStatsMapper.toResponse(stats);
+    }
+
+    /**
+     * Stats for all of the user's vehicles from one vehicles-join-aggregates query. Ownership is implied by
+     * the owner filter, so no per-vehicle checks; only vehicles not yet backfilled fall back to history totals.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<FleetVehicleStatsResponse> computeFleetStats(UUID userId) {
+        return statsRepository.findFleetStats(userId).stream()
+                .map(row -> FleetVehicleStatsResponse.builder()
+                        .vehicleId(row.getVehicleId())
+                        .nickname(row.getNickname())
+                        .registrationNumber(row.getRegistrationNumber())
+                        .stats(FuelStatsMapper.toResponse(row.getStats() != null
+                                ? row.getStats()
+                                : loadStatsFromHistory(row.getVehicleId())))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Recompute the aggregate for a vehicle from its stored fills and persist it.
+     */
+    @Override
+    @Transactional
+    public void rebuildVehicleStats(UUID vehicleId) {
+        // under the row lock, so a fill applied concurrently is either counted in the history or applied after
+        statsRepository.save(copyHistory(lockStats(vehicleId)));
+    }
+
+    /**
+     * Single ordered pass over one vehicle's import rows. The "previous fill" of each row is the latest of
+     * the existing fills and the rows imported before it, so only existing fills overlapping the imported
+     * date range are read, plus the first one after it. Existing fills that an imported row now precedes are
+     * re-measured against it.
+     */
+    private int importVehicleRows(UUID userId, UUID vehicleId, List<ImportRow> rows) {
+        ownershipCache.requireOwner(userId, vehicleId);
+
+        rows.sort(Comparator.comparing((ImportRow r) -> r.req().getFillDate()).thenComparingInt(ImportRow::index));
+        LocalDate from = rows.get(0).req().getFillDate();
+        LocalDate to = rows.get(rows.size() - 1).req().getFillDate();
+
+        // lock before reading the history, so a fill created concurrently is either read here or waits for us
+        VehicleFuelStats stats = lockStats(vehicleId);
+        FuelFill previous = fuelFillRepository
+                .findFirstByVehicleIdAndFillDateLessThanEqualOrderByFillDateDescCreatedAtDesc(vehicleId, from)
+                .orElse(null);
+        boolean previousImported = false;
+        List<FuelFill> existing = fuelFillRepository.findByVehicleIdAndFillDateBetweenOrderByFillDateAscCreatedAtAsc(vehicleId, from, to);
+        int nextExisting = 0;
+        // the existing fill each existing fill was measured against; differs from previous once rows are interleaved
+        FuelFill previousExisting = previous;
+        FuelFill after = fuelFillRepository
+                .findFirstByVehicleIdAndFillDateGreaterThanOrderByFillDateAscCreatedAtAscIdAsc(vehicleId, to)
+                .orElse(null);
+
+        Map<LocalDate, FuelMonthlyRollup> rollups = loadRollups(vehicleId, from, after != null ? after.getFillDate() : to);
+        List<FuelFill> toInsert = new ArrayList<>(rows.size());
+        List<UUID> remeasured = new ArrayList<>();
+        Long maxOdometer = null;
+
+        for (ImportRow row : rows) {
+            FuelFillCreateRequest req = row.req();
+
+            // existing fills were created before this import, so on the same day an imported fill stays "latest"
+            while (nextExisting < existing.size() && !existing.get(nextExisting).getFillDate().isAfter(req.getFillDate())) {
+                FuelFill candidate = existing.get(nextExisting++);
+                if (previousImported) {
+                    remeasure(candidate, previousExisting, previous, rollupFor(rollups, userId, vehicleId, candidate.getFillDate()));
+                    remeasured.add(candidate.getId());
+                }
+                previous = candidate;
+                previousExisting = candidate;
+                previousImported = false;
+            }
+
+            BigDecimal fuelVolume = BigDecimal.valueOf(req.getLiters());
+            BigDecimal pricePerLiter = BigDecimal.valueOf(req.getPricePerLiter());
+            BigDecimal totalAmount = MileageCalculator.multiply(fuelVolume, pricePerLiter);
+            BigDecimal mileage = mileageSince(previous, req.getOdometer(), fuelVolume);
+
+            FuelFill f = newFill(row.id(), userId, req, fuelVolume, pricePerLiter, totalAmount, mileage, false);
+            toInsert.add(f);
+            stats.apply(f);
+            rollupFor(rollups, userId, vehicleId, req.getFillDate()).apply(f, distanceSince(previous, req.getOdometer()));
+            previous = f;
+            previousImported = true;
+
+            if (maxOdometer == null || req.getOdometer() > maxOdometer) maxOdometer = req.getOdometer();
+        }
+        if (previousImported && after != null) {
+            remeasure(after, previousExisting, previous, rollupFor(rollups, userId, vehicleId, after.getFillDate()));
+            remeasured.add(after.getId());
         }
 
-        BigDecimal averageMileage = null;
-        if (totalFuel.compareTo(BigDecimal.ZERO) > 0) {
-            averageMileage = BigDecimal.valueOf(totalDistance).divide(totalFuel, 6, BigDecimal.ROUND_HALF_UP).setScale(3, BigDecimal.ROUND_HALF_UP);
+        boolean odometerMoved = maxOdometer != null
+                && vehicleOdometer.advance(vehicleId, maxOdometer);
+        statsRepository.save(stats);
+        rollupRepository.saveAll(rollups.values());
+        persistInBatches(toInsert);
+
+        // change log last, just before commit
+        syncChangeLog.recordChanges(userId, SyncMetadata.EntityType.FUEL_FILL,
+                Stream.concat(toInsert.stream().map(FuelFill::getId), remeasured.stream()).toList());
+        if (odometerMoved) {
+            syncChangeLog.recordChange(userId, SyncMetadata.EntityType.VEHICLE, vehicleId);
+            maintenanceEvaluator.onOdometer(vehicleId, maxOdometer);
         }
+        return toInsert.size();
+    }
 
-        BigDecimal costPerKm = null;
-        if (totalDistance > 0) {
-            costPerKm = totalCost.divide(BigDecimal.valueOf(totalDistance), 6, BigDecimal.ROUND_HALF_UP).setScale(2, BigDecimal.ROUND_HALF_UP);
+    /**
+     * persist() directly (ids are assigned, so save() would merge and select first) and flush every chunk so
+     * Hibernate sends JDBC batches. Only the inserted fills are detached afterwards, not the whole context:
+     * sync push runs this inside its own transaction, whose other managed entities must stay attached.
+     */
+    private void persistInBatches(List<FuelFill> fills) {
+        int flushed = 0;
+        for (int i = 0; i < fills.size(); i++) {
+            entityManager.persist(fills.get(i));
+            if ((i + 1) % IMPORT_CHUNK_SIZE == 0) {
+                flushed = flushAndDetach(fills, flushed, i + 1);
+            }
+        }
+        flushAndDetach(fills, flushed, fills.size());
+    }
+
+    private int flushAndDetach(List<FuelFill> fills, int from, int to) {
+        entityManager.flush();
+        for (int i = from; i < to; i++) {
+            entityManager.detach(fills.get(i));
         }
+        return to;
+    }
 
-        return VehicleFuelStatsResponse.builder()
-                .totalFuel(totalFuel.setScale(3, BigDecimal.ROUND_HALF_UP))
-                .totalCost(totalCost.setScale(2, BigDecimal.ROUND_HALF_UP))
-                .totalDistance(totalDistance)
-                .averageMileage(averageMileage)
-                .costPerKm(costPerKm)
-                .extra(null)
+    private String validateRow(FuelFillCreateRequest req) {
+        if (req == null) return "Row is empty";
+        Set<ConstraintViolation<FuelFillCreateRequest>> violations = validator.validate(req);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static BigDecimal mileageSince(FuelFill previous, long odometer, BigDecimal fuelVolume) {
+        long distance = distanceSince(previous, odometer);
+        if (distance <= 0 || fuelVolume == null || fuelVolume.compareTo(BigDecimal.ZERO) <= 0) return null;
+        return MileageCalculator.computeMileage(distance, fuelVolume);
+    }
+
+    private static long distanceSince(FuelFill previous, long odometer) {
+        if (previous == null || previous.getOdometerReading() == null) return 0L;
+        return Math.max(0L, odometer - previous.getOdometerReading());
+    }
+
+    /**
+     * A fill inserted before an existing one becomes that fill's previous fill: re-measure the existing fill's
+     * mileage and move its rollup distance from the old previous fill to the new one, as a rebuild in fill order would.
+     */
+    private static void remeasure(FuelFill fill, FuelFill oldPrevious, FuelFill newPrevious, FuelMonthlyRollup rollup) {
+        BigDecimal mileage = mileageSince(newPrevious, fill.getOdometerReading(), fill.getFuelVolume());
+        rollup.remeasure(fill, distanceSince(oldPrevious, fill.getOdometerReading()),
+                mileage, distanceSince(newPrevious, fill.getOdometerReading()));
+        fill.setMileage(mileage);
+        fill.setUpdatedAt(Instant.now());
+    }
+
+    // Existing rollups for the months spanned by [from, to], keyed by month; callers hold the stats row lock
+    private Map<LocalDate, FuelMonthlyRollup> loadRollups(UUID vehicleId, LocalDate from, LocalDate to) {
+        Map<LocalDate, FuelMonthlyRollup> rollups = new HashMap<>();
+        for (FuelMonthlyRollup r : rollupRepository.findByVehicleIdAndMonthBetweenOrderByMonthAsc(
+                vehicleId, from.withDayOfMonth(1), to.withDayOfMonth(1))) {
+            rollups.put(r.getMonth(), r);
+        }
+        return rollups;
+    }
+
+    private static FuelMonthlyRollup rollupFor(Map<LocalDate, FuelMonthlyRollup> rollups, UUID ownerId, UUID vehicleId,
+                                               LocalDate fillDate) {
+        return rollups.computeIfAbsent(fillDate.withDayOfMonth(1), m -> FuelMonthlyRollup.empty(vehicleId, ownerId, m));
+    }
+
+    private static FuelFill newFill(UUID id, UUID userId, FuelFillCreateRequest req, BigDecimal fuelVolume, BigDecimal pricePerLiter,
+                                    BigDecimal totalAmount, BigDecimal mileage, boolean estimated) {
+        return FuelFill.builder()
+                .id(id)
+                .userId(userId)
+                .vehicleId(req.getVehicleId())
+                .fillDate(req.getFillDate())
+                .odometerReading(req.getOdometer())
+                .fuelVolume(fuelVolume)
+                .pricePerLiter(pricePerLiter)
+                .totalAmount(totalAmount)
+                .mileage(mileage)
+                .estimated(estimated)
+                .createdAt(Instant.now())
                 .build();
     }
+
+    /**
+     * Row-locks the vehicle's aggregate. A vehicle that has none yet (created before aggregates and not reached
+     * by the backfill) first gets an empty row, inserted ignoring duplicates: concurrent first fills then block on
+     * that row instead of each building its own and failing on the primary key. Whoever inserted it fills it
+     * from history while holding the lock; the others see the result.
+     */
+    private VehicleFuelStats lockStats(UUID vehicleId) {
+        Optional<VehicleFuelStats> locked = statsRepository.findForUpdate(vehicleId);
+        if (locked.isPresent()) return locked.get();
+
+        boolean created = statsRepository.insertEmptyIfAbsent(vehicleId) > 0;
+        VehicleFuelStats stats = statsRepository.findForUpdate(vehicleId)
+                .orElseThrow(() -> new IllegalStateException("Fuel stats row missing for vehicle " + vehicleId));
+        return created ? copyHistory(stats) : stats;
+    }
+
+    private VehicleFuelStats loadStatsFromHistory(UUID vehicleId) {
+        return copyHistory(VehicleFuelStats.empty(vehicleId));
+    }
+
+    private VehicleFuelStats copyHistory(VehicleFuelStats stats) {
+        UUID vehicleId = stats.getVehicleId();
+        FuelFillRepository.FuelTotals totals = fuelFillRepository.sumByVehicleId(vehicleId);
+
+        stats.setFillCount(totals.getFillCount());
+        stats.setTotalFuel(totals.getTotalFuel());
+        stats.setTotalCost(totals.getTotalCost());
+        fuelFillRepository.findFirstByVehicleIdOrderByFillDateAsc(vehicleId).ifPresent(f -> {
+            stats.setFirstFillDate(f.getFillDate());
+            stats.setFirstOdometer(f.getOdometerReading());
+        });
+        fuelFillRepository.findFirstByVehicleIdOrderByFillDateDesc(vehicleId).ifPresent(f -> {
+            stats.setLastFillDate(f.getFillDate());
+            stats.setLastOdometer(f.getOdometerReading());
+        });
+        stats.setUpdatedAt(Instant.now());
+        return stats;
+    }
+
+    private record ImportRow(int index, FuelFillCreateRequest req, UUID id) {}
 }
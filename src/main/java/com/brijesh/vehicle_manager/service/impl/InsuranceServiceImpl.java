@@ -0,0 +1,146 @@
+package com.brijesh.vehicle_manager.service.impl;
+
+import com.brijesh.vehicle_manager.dto.InsuranceRequest;
+import com.brijesh.vehicle_manager.dto.InsuranceResponse;
+import com.brijesh.vehicle_manager.entity.Insurance;
+import com.brijesh.vehicle_manager.entity.ReminderLog;
+import com.brijesh.vehicle_manager.exception.ResourceNotFoundException;
+import com.brijesh.vehicle_manager.mapper.InsuranceMapper;
+import com.brijesh.vehicle_manager.repository.InsuranceRepository;
+import com.brijesh.vehicle_manager.repository.ReminderLogRepository;
+import com.brijesh.vehicle_manager.service.InsuranceService;
+import com.brijesh.vehicle_manager.service.VehicleOwnershipCache;
+import com.brijesh.vehicle_manager.util.UuidV7;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class InsuranceServiceImpl implements InsuranceService {
+
+    private final InsuranceRepository insuranceRepository;
+    private final ReminderLogRepository reminderLogRepository;
+    private final VehicleOwnershipCache ownershipCache;
+    // Lead times in days, ascending; a notice goes out when a policy enters each of them
+    private final int[] noticeDays;
+
+    public InsuranceServiceImpl(InsuranceRepository insuranceRepository,
+                                ReminderLogRepository reminderLogRepository,
+                                VehicleOwnershipCache ownershipCache,
+                                @Value("${app.insurance.notice-days:30,7,1}") int[] noticeDays) {
+        this.insuranceRepository = insuranceRepository;
+        this.reminderLogRepository = reminderLogRepository;
+        this.ownershipCache = ownershipCache;
+        this.noticeDays = Arrays.stream(noticeDays).sorted().toArray();
+        if (this.noticeDays.length == 0 || this.noticeDays[0] < 0) {
+            throw new IllegalStateException("app.insurance.notice-days must list non-negative day counts");
+        }
+    }
+
+    @Override
+    @Transactional
+    public InsuranceResponse createPolicy(UUID userId, InsuranceRequest req) {
+        ownershipCache.requireOwner(userId, req.getVehicleId());
+        Insurance i = Insurance.builder()
+                .id(UuidV7.generate())
+                .ownerId(userId)
+                .vehicleId(req.getVehicleId())
+                .createdAt(Instant.now())
+                .build();
+        InsuranceMapper.apply(i, req);
+        return InsuranceMapper.toResponse(insuranceRepository.save(i));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InsuranceResponse> listPolicies(UUID userId, UUID vehicleId) {
+        ownershipCache.requireOwner(userId, vehicleId);
+        return insuranceRepository.findByOwnerIdAndVehicleIdOrderByExpiryDateAsc(userId, vehicleId).stream()
+                .map(InsuranceMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public InsuranceResponse updatePolicy(UUID userId, UUID policyId, InsuranceRequest req) {
+        Insurance i = requirePolicy(userId, policyId);
+        if (!i.getVehicleId().equals(req.getVehicleId())) {
+            throw new IllegalArgumentException("A policy cannot be moved to another vehicle");
+        }
+        InsuranceMapper.apply(i, req);
+        i.setUpdatedAt(Instant.now());
+        return InsuranceMapper.toResponse(insuranceRepository.save(i));
+    }
+
+    @Override
+    @Transactional
+    public void deletePolicy(UUID userId, UUID policyId) {
+        insuranceRepository.delete(requirePolicy(userId, policyId));
+    }
+
+    /**
+     * One chunk of the daily expiry scan: policies expiring between today and the longest lead time, read in
+     * (expiryDate, id) order after the cursor. A notice is logged when a policy has entered a shorter lead time
+     * than the last one it was notified for, so reruns on the same day send nothing twice.
+     */
+    @Override
+    @Transactional
+    public ExpiryCursor notifyExpiring(LocalDate today, ExpiryCursor after, int chunkSize) {
+        LocalDate to = today.plusDays(noticeDays[noticeDays.length - 1]);
+        PageRequest chunk = PageRequest.of(0, chunkSize);
+        List<Insurance> policies = after == null
+                ? insuranceRepository.findExpiringFirst(today, to, chunk)
+                : insuranceRepository.findExpiringAfter(today, to, after.expiryDate(), after.id(), chunk);
+
+        Instant now = Instant.now();
+        List<ReminderLog> notices = new ArrayList<>();
+        for (Insurance i : policies) {
+            int stage = noticeStage(ChronoUnit.DAYS.between(today, i.getExpiryDate()));
+            if (i.getLastNoticeDays() != null && i.getLastNoticeDays() <= stage) continue;
+
+            notices.add(ReminderLog.builder()
+                    .reminderId(i.getId())
+                    .ownerId(i.getOwnerId())
+                    .vehicleId(i.getVehicleId())
+                    .title(title(i))
+                    .dueAt(i.getExpiryDate().atStartOfDay(ZoneOffset.UTC).toInstant())
+                    .firedAt(now)
+                    .build());
+            i.setLastNoticeDays(stage);
+        }
+        reminderLogRepository.saveAll(notices);
+
+        if (policies.size() < chunkSize) return null;
+        Insurance last = policies.get(policies.size() - 1);
+        return new ExpiryCursor(last.getExpiryDate(), last.getId());
+    }
+
+    // Smallest configured lead time the policy is already inside of
+    private int noticeStage(long daysLeft) {
+        for (int d : noticeDays) {
+            if (daysLeft <= d) return d;
+        }
+        return noticeDays[noticeDays.length - 1];
+    }
+
+    private static String title(Insurance i) {
+        String policy = i.getProvider() != null ? i.getProvider() + " insurance" : "Insurance";
+        return policy + " expires on " + i.getExpiryDate();
+    }
+
+    private Insurance requirePolicy(UUID userId, UUID policyId) {
+        return insuranceRepository.findByIdAndOwnerId(policyId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Insurance policy not found"));
+    }
+}
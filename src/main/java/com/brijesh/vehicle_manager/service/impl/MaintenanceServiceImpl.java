@@ -0,0 +1,129 @@
+package com.brijesh.vehicle_manager.service.impl;
+
+import com.brijesh.vehicle_manager.dto.MaintenanceCompleteRequest;
+import com.brijesh.vehicle_manager.dto.MaintenanceRuleRequest;
+import com.brijesh.vehicle_manager.dto.MaintenanceRuleResponse;
+import com.brijesh.vehicle_manager.entity.MaintenanceRule;
+import com.brijesh.vehicle_manager.entity.Vehicle;
+import com.brijesh.vehicle_manager.exception.ResourceNotFoundException;
+import com.brijesh.vehicle_manager.exception.VehicleNotFoundException;
+import com.brijesh.vehicle_manager.mapper.MaintenanceRuleMapper;
+import com.brijesh.vehicle_manager.repository.MaintenanceRuleRepository;
+import com.brijesh.vehicle_manager.repository.VehicleRepository;
+import com.brijesh.vehicle_manager.service.MaintenanceEvaluator;
+import com.brijesh.vehicle_manager.service.MaintenanceService;
+import com.brijesh.vehicle_manager.util.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maintenance rule CRUD. Every change recompiles the rule's thresholds, checks it against the vehicle's
+ * current odometer and drops the vehicle's cached threshold in MaintenanceEvaluator.
+ */
+@Service
+@RequiredArgsConstructor
+public class MaintenanceServiceImpl implements MaintenanceService {
+
+    private final MaintenanceRuleRepository ruleRepository;
+    private final VehicleRepository vehicleRepository;
+    private final MaintenanceEvaluator evaluator;
+
+    @Override
+    @Transactional
+    public MaintenanceRuleResponse createRule(UUID userId, MaintenanceRuleRequest req) {
+        Vehicle v = requireVehicle(userId, req.getVehicleId());
+        MaintenanceRule r = MaintenanceRule.builder()
+                .id(UuidV7.generate())
+                .ownerId(userId)
+                .vehicleId(v.getId())
+                .createdAt(Instant.now())
+                .build();
+        applyRequest(r, req, v);
+        return MaintenanceRuleMapper.toResponse(ruleRepository.save(r));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MaintenanceRuleResponse> listRules(UUID userId, UUID vehicleId) {
+        requireVehicle(userId, vehicleId);
+        return ruleRepository.findByOwnerIdAndVehicleIdOrderByCreatedAtAsc(userId, vehicleId).stream()
+                .map(MaintenanceRuleMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public MaintenanceRuleResponse updateRule(UUID userId, UUID ruleId, MaintenanceRuleRequest req) {
+        MaintenanceRule r = requireRule(userId, ruleId);
+        if (!r.getVehicleId().equals(req.getVehicleId())) {
+            throw new IllegalArgumentException("A rule cannot be moved to another vehicle");
+        }
+        applyRequest(r, req, requireVehicle(userId, r.getVehicleId()));
+        r.setUpdatedAt(Instant.now());
+        return MaintenanceRuleMapper.toResponse(ruleRepository.save(r));
+    }
+
+    @Override
+    @Transactional
+    public void deleteRule(UUID userId, UUID ruleId) {
+        MaintenanceRule r = requireRule(userId, ruleId);
+        ruleRepository.delete(r);
+        evaluator.invalidate(r.getVehicleId());
+    }
+
+    /**
+     * Service done: restart both intervals from this odometer/date.
+     */
+    @Override
+    @Transactional
+    public MaintenanceRuleResponse completeRule(UUID userId, UUID ruleId, MaintenanceCompleteRequest req) {
+        MaintenanceRule r = requireRule(userId, ruleId);
+        Vehicle v = requireVehicle(userId, r.getVehicleId());
+        r.setLastServiceOdometer(req.getOdometer() != null ? req.getOdometer() : currentOdometer(v));
+        r.setLastServiceDate(req.getDate() != null ? req.getDate() : LocalDate.now());
+        compile(r, v);
+        r.setUpdatedAt(Instant.now());
+        return MaintenanceRuleMapper.toResponse(ruleRepository.save(r));
+    }
+
+    private void applyRequest(MaintenanceRule r, MaintenanceRuleRequest req, Vehicle v) {
+        if (req.getIntervalKm() == null && req.getIntervalMonths() == null) {
+            throw new IllegalArgumentException("Provide intervalKm and/or intervalMonths");
+        }
+        r.setName(req.getName());
+        r.setIntervalKm(req.getIntervalKm());
+        r.setIntervalMonths(req.getIntervalMonths());
+        r.setLastServiceOdometer(req.getLastServiceOdometer() != null ? req.getLastServiceOdometer() : currentOdometer(v));
+        r.setLastServiceDate(req.getLastServiceDate() != null ? req.getLastServiceDate() : LocalDate.now());
+        compile(r, v);
+    }
+
+    // Thresholds from the last service, then the odometer check the evaluator would otherwise do on the next fill
+    private void compile(MaintenanceRule r, Vehicle v) {
+        r.recompute();
+        if (r.isDueAt(currentOdometer(v), LocalDate.now())) r.setDueSince(Instant.now());
+        evaluator.invalidate(v.getId());
+    }
+
+    private Vehicle requireVehicle(UUID userId, UUID vehicleId) {
+        return vehicleRepository.findOwned(vehicleId, userId)
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found or access denied"));
+    }
+
+    private MaintenanceRule requireRule(UUID userId, UUID ruleId) {
+        return ruleRepository.findByIdAndOwnerId(ruleId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Maintenance rule not found"));
+    }
+
+    private static long currentOdometer(Vehicle v) {
+        if (v.getCurrentOdometer() != null) return v.getCurrentOdometer();
+        return v.getInitialOdometer() != null ? v.getInitialOdometer() : 0L;
+    }
+}
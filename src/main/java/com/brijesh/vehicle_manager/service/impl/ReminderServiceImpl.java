@@ -0,0 +1,126 @@
+package com.brijesh.vehicle_manager.service.impl;
+
+import com.brijesh.vehicle_manager.dto.ReminderCreateRequest;
+import com.brijesh.vehicle_manager.dto.ReminderLogResponse;
+import com.brijesh.vehicle_manager.dto.ReminderResponse;
+import com.brijesh.vehicle_manager.entity.Reminder;
+import com.brijesh.vehicle_manager.entity.ReminderLog;
+import com.brijesh.vehicle_manager.exception.ResourceNotFoundException;
+import com.brijesh.vehicle_manager.mapper.ReminderMapper;
+import com.brijesh.vehicle_manager.repository.ReminderLogRepository;
+import com.brijesh.vehicle_manager.repository.ReminderRepository;
+import com.brijesh.vehicle_manager.service.ReminderService;
+import com.brijesh.vehicle_manager.service.VehicleOwnershipCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ReminderServiceImpl implements ReminderService {
+
+    private static final int MAX_LOG_PAGE = 200;
+
+    private final ReminderRepository reminderRepository;
+    private final ReminderLogRepository reminderLogRepository;
+    private final VehicleOwnershipCache ownershipCache;
+    private final ApplicationEventPublisher events;
+
+    @Override
+    @Transactional
+    public ReminderResponse createReminder(UUID userId, ReminderCreateRequest req) {
+        ownershipCache.requireOwner(userId, req.getVehicleId());
+
+        Reminder saved = reminderRepository.save(ReminderMapper.fromCreate(userId, req));
+        // lets the scheduler pick it up right away if it falls inside the window it has loaded
+        events.publishEvent(new Due(saved.getId(), saved.getNextDueAt()));
+        return ReminderMapper.toResponse(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReminderResponse> listReminders(UUID userId, UUID vehicleId) {
+        ownershipCache.requireOwner(userId, vehicleId);
+        return reminderRepository.findByOwnerIdAndVehicleIdOrderByCreatedAtAsc(userId, vehicleId).stream()
+                .map(ReminderMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void deleteReminder(UUID userId, UUID reminderId) {
+        Reminder r = reminderRepository.findByIdAndOwnerId(reminderId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reminder not found"));
+        reminderRepository.delete(r);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReminderLogResponse> recentFired(UUID userId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LOG_PAGE));
+        return reminderLogRepository.findByOwnerIdOrderByFiredAtDesc(userId, PageRequest.of(0, size)).stream()
+                .map(ReminderMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Due> findDueBefore(Instant until, int limit) {
+        return reminderRepository.findDueBefore(until, PageRequest.of(0, limit)).stream()
+                .map(v -> new Due(v.getId(), v.getNextDueAt()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Fire a batch of occurrences in one transaction: the reminders are row-locked, anything deleted or
+     * rescheduled since it was queued is skipped, log rows go out as one JDBC batch.
+     * Returns the next occurrences of repeating reminders.
+     */
+    @Override
+    @Transactional
+    public List<Due> fire(List<Due> due) {
+        Map<UUID, Instant> expected = new HashMap<>();
+        for (Due d : due) expected.put(d.reminderId(), d.dueAt());
+
+        Instant now = Instant.now();
+        List<ReminderLog> logs = new ArrayList<>(due.size());
+        List<Due> next = new ArrayList<>();
+        for (Reminder r : reminderRepository.findAllForUpdate(expected.keySet())) {
+            Instant dueAt = expected.get(r.getId());
+            if (r.getNextDueAt() == null || !r.getNextDueAt().equals(dueAt)) continue;
+
+            logs.add(ReminderLog.builder()
+                    .reminderId(r.getId())
+                    .ownerId(r.getOwnerId())
+                    .vehicleId(r.getVehicleId())
+                    .title(r.getTitle())
+                    .dueAt(dueAt)
+                    .firedAt(now)
+                    .build());
+            r.setLastFiredAt(now);
+            r.setNextDueAt(nextOccurrence(dueAt, r.getRepeatDays(), now));
+            if (r.getNextDueAt() != null) next.add(new Due(r.getId(), r.getNextDueAt()));
+        }
+        reminderLogRepository.saveAll(logs);
+        return next;
+    }
+
+    // First occurrence after now; missed periods (e.g. while the app was down) are fired once, not replayed
+    private static Instant nextOccurrence(Instant dueAt, Integer repeatDays, Instant now) {
+        if (repeatDays == null) return null;
+        Duration period = Duration.ofDays(repeatDays);
+        long periods = Duration.between(dueAt, now).dividedBy(period) + 1;
+        return dueAt.plus(period.multipliedBy(Math.max(1, periods)));
+    }
+}
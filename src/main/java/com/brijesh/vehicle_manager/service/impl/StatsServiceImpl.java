@@ -0,0 +1,98 @@
+package com.brijesh.vehicle_manager.service.impl;
+
+import com.brijesh.vehicle_manager.dto.MonthlyFuelStatsResponse;
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import com.brijesh.vehicle_manager.entity.FuelMonthlyRollup;
+import com.brijesh.vehicle_manager.mapper.FuelStatsMapper;
+import com.brijesh.vehicle_manager.repository.FuelFillRepository;
+import com.brijesh.vehicle_manager.repository.FuelMonthlyRollupRepository;
+import com.brijesh.vehicle_manager.repository.VehicleFuelStatsRepository;
+import com.brijesh.vehicle_manager.service.StatsService;
+import com.brijesh.vehicle_manager.service.VehicleOwnershipCache;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Dashboard stats served from fuel_monthly_rollup: one row per vehicle and month.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatsServiceImpl implements StatsService {
+
+    private static final int MAX_MONTHS = 120;
+
+    private final FuelMonthlyRollupRepository rollupRepository;
+    private final FuelFillRepository fuelFillRepository;
+    private final VehicleFuelStatsRepository statsRepository;
+    private final VehicleOwnershipCache ownershipCache;
+    private final EntityManager entityManager;
+
+    /**
+     * All of the user's vehicles, summed per month. Months without fills are omitted.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlyFuelStatsResponse> getMonthlyStats(UUID userId, YearMonth from, YearMonth to) {
+        checkRange(from, to);
+        return rollupRepository.sumByOwner(userId, from.atDay(1), to.atDay(1)).stream()
+                .map(FuelStatsMapper::toMonthly)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlyFuelStatsResponse> getVehicleMonthlyStats(UUID userId, UUID vehicleId, YearMonth from, YearMonth to) {
+        checkRange(from, to);
+        ownershipCache.requireOwner(userId, vehicleId);
+        return rollupRepository.findByVehicleIdAndMonthBetweenOrderByMonthAsc(vehicleId, from.atDay(1), to.atDay(1)).stream()
+                .map(FuelStatsMapper::toMonthly)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Recompute a vehicle's rollups from its stored fills in one ordered pass. Holds the stats row lock,
+     * like the fill writers, so no fill is inserted half-way through.
+     */
+    @Override
+    @Transactional
+    public void rebuildMonthlyRollups(UUID vehicleId) {
+        statsRepository.findForUpdate(vehicleId);
+        rollupRepository.deleteByVehicle(vehicleId);
+
+        Map<LocalDate, FuelMonthlyRollup> rollups = new LinkedHashMap<>();
+        // same previous-fill order as FuelFillServiceImpl, so a rebuild reproduces the distances it assigned
+        try (Stream<FuelFill> fills = fuelFillRepository.streamInFillOrder(vehicleId)) {
+            FuelFill previous = null;
+            for (Iterator<FuelFill> it = fills.iterator(); it.hasNext(); ) {
+                FuelFill f = it.next();
+                long distance = previous == null ? 0L : Math.max(0L, f.getOdometerReading() - previous.getOdometerReading());
+                rollups.computeIfAbsent(f.getFillDate().withDayOfMonth(1),
+                                m -> FuelMonthlyRollup.empty(vehicleId, f.getUserId(), m))
+                        .apply(f, distance);
+                entityManager.detach(f);
+                previous = f;
+            }
+        }
+        rollupRepository.saveAll(rollups.values());
+    }
+
+    private static void checkRange(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) throw new IllegalArgumentException("from must not be after to");
+        if (ChronoUnit.MONTHS.between(from, to) >= MAX_MONTHS) {
+            throw new IllegalArgumentException("Range is limited to " + MAX_MONTHS + " months");
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.brijesh.vehicle_manager.service.impl;
+
+import com.brijesh.vehicle_manager.dto.FuelFillResponse;
+import com.brijesh.vehicle_manager.dto.SyncChangesResponse;
+import com.brijesh.vehicle_manager.dto.SyncPushRequest;
+import com.brijesh.vehicle_manager.dto.SyncPushRequest.FuelFillItem;
+import com.brijesh.vehicle_manager.dto.SyncPushRequest.VehicleItem;
+import com.brijesh.vehicle_manager.dto.SyncPushResponse;
+import com.brijesh.vehicle_manager.dto.SyncPushResponse.ItemResult;
+import com.brijesh.vehicle_manager.dto.SyncPushResponse.Status;
+import com.brijesh.vehicle_manager.dto.VehicleResponse;
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import com.brijesh.vehicle_manager.entity.SyncMetadata;
+import com.brijesh.vehicle_manager.entity.SyncMetadata.EntityType;
+import com.brijesh.vehicle_manager.mapper.FuelFillMapper;
+import com.brijesh.vehicle_manager.mapper.VehicleMapper;
+import com.brijesh.vehicle_manager.repository.FuelFillRepository;
+import com.brijesh.vehicle_manager.repository.SyncMetadataRepository;
+import com.brijesh.vehicle_manager.repository.VehicleRepository;
+import com.brijesh.vehicle_manager.service.FuelFillService;
+import com.brijesh.vehicle_manager.service.SyncService;
+import com.brijesh.vehicle_manager.service.VehicleOwnershipCache;
+import com.brijesh.vehicle_manager.service.VehicleService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Delta sync over the sync_metadata change log.
+ * Auto-increment values are handed out at insert time but become visible at commit, so a reader could see seq 11
+ * before a slower transaction's seq 10 commits and then skip it forever. Rows younger than the settle window are
+ * therefore held back (and the cursor stops before them) until in-flight writers have had time to commit.
+ */
+@Service
+public class SyncServiceImpl implements SyncService {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final SyncMetadataRepository syncRepository;
+    private final VehicleRepository vehicleRepository;
+    private final FuelFillRepository fuelFillRepository;
+    private final FuelFillMapper fuelFillMapper;
+    private final VehicleService vehicleService;
+    private final FuelFillService fuelFillService;
+    private final VehicleOwnershipCache ownershipCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final Duration settleWindow;
+
+    public SyncServiceImpl(SyncMetadataRepository syncRepository,
+                           VehicleRepository vehicleRepository,
+                           FuelFillRepository fuelFillRepository,
+                           FuelFillMapper fuelFillMapper,
+                           VehicleService vehicleService,
+                           FuelFillService fuelFillService,
+                           VehicleOwnershipCache ownershipCache,
+                           TransactionTemplate transactionTemplate,
+                           Validator validator,
+                           @Value("${app.sync.settle-window:5s}") Duration settleWindow) {
+        this.syncRepository = syncRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.fuelFillRepository = fuelFillRepository;
+        this.fuelFillMapper = fuelFillMapper;
+        this.vehicleService = vehicleService;
+        this.fuelFillService = fuelFillService;
+        this.ownershipCache = ownershipCache;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.settleWindow = settleWindow;
+    }
+
+    /**
+     * Changes after `since`, deduplicated per entity and returned in their current state.
+     * Read-write on purpose, like currentCursor: with read replicas enabled a read-only transaction would go to
+     * a replica, and replication lag would eat into the settle window until the cursor skipped a change for good.
+     */
+    @Override
+    @Transactional
+    public SyncChangesResponse getChanges(UUID ownerId, long since, int limit) {
+        if (since < 0) throw new IllegalArgumentException("since must not be negative");
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        Instant settled = Instant.now().minus(settleWindow);
+
+        List<SyncMetadata> rows = syncRepository.findChangesAfter(ownerId, since, PageRequest.of(0, pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+
+        long cursor = since;
+        Set<UUID> vehicleIds = new LinkedHashSet<>();
+        Set<UUID> fillIds = new LinkedHashSet<>();
+        for (SyncMetadata row : rows.subList(0, Math.min(rows.size(), pageSize))) {
+            if (!row.getChangedAt().isBefore(settled)) {
+                hasMore = false;
+                break;
+            }
+            if (row.getEntityType() == SyncMetadata.EntityType.VEHICLE) vehicleIds.add(row.getEntityId());
+            else fillIds.add(row.getEntityId());
+            cursor = row.getSeq();
+        }
+
+        List<VehicleResponse> vehicles = vehicleRepository.findAllById(vehicleIds).stream()
+                .filter(v -> ownerId.equals(v.getOwnerId()))
+                .map(VehicleMapper::toResponse)
+                .toList();
+        List<FuelFillResponse> fills = fuelFillRepository.findAllById(fillIds).stream()
+                .filter(f -> ownerId.equals(f.getUserId()))
+                .map(fuelFillMapper::toResponse)
+                .toList();
+
+        return SyncChangesResponse.builder()
+                .vehicles(vehicles)
+                .fuelFills(fills)
+                .cursor(cursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Cursor to start delta sync from after a full download (taken before downloading).
+     */
+    @Override
+    @Transactional
+    public long currentCursor(UUID ownerId) {
+        Long seq = syncRepository.findLatestSeqBefore(ownerId, Instant.now().minus(settleWindow));
+        return seq == null ? 0L : seq;
+    }
+
+    /**
+     * Applies offline-created records in one transaction per vehicle: the vehicle first, then its fills
+     * oldest-first through the batched import path. Ids this user already has are acknowledged as duplicates,
+     * ids taken by anyone else are conflicts. A failing vehicle only fails its own items.
+     */
+    @Override
+    public SyncPushResponse push(UUID ownerId, SyncPushRequest req) {
+        List<VehicleItem> vehicles = req.getVehicles() == null ? List.of() : req.getVehicles();
+        List<FuelFillItem> fills = req.getFuelFills() == null ? List.of() : req.getFuelFills();
+        List<ItemResult> results = new ArrayList<>();
+        Map<UUID, PushGroup> groups = new LinkedHashMap<>();
+
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < vehicles.size(); i++) {
+            VehicleItem v = vehicles.get(i);
+            String problem = validate(v, v == null ? null : v.getId());
+            if (problem != null) {
+                results.add(new ItemResult(EntityType.VEHICLE, i, v == null ? null : v.getId(), Status.INVALID, problem));
+            } else if (!seen.add(v.getId())) {
+                results.add(new ItemResult(EntityType.VEHICLE, i, v.getId(), Status.DUPLICATE, null));
+            } else {
+                groups.computeIfAbsent(v.getId(), PushGroup::new).vehicle = new PushItem<>(i, v);
+            }
+        }
+
+        seen.clear();
+        for (int i = 0; i < fills.size(); i++) {
+            FuelFillItem f = fills.get(i);
+            String problem = validate(f, f == null ? null : f.getId());
+            if (problem != null) {
+                results.add(new ItemResult(EntityType.FUEL_FILL, i, f == null ? null : f.getId(), Status.INVALID, problem));
+            } else if (!seen.add(f.getId())) {
+                results.add(new ItemResult(EntityType.FUEL_FILL, i, f.getId(), Status.DUPLICATE, null));
+            } else {
+                groups.computeIfAbsent(f.getVehicleId(), PushGroup::new).fills.add(new PushItem<>(i, f));
+            }
+        }
+
+        for (PushGroup group : groups.values()) {
+            try {
+                results.addAll(transactionTemplate.execute(status -> applyGroup(ownerId, group)));
+            } catch (RuntimeException ex) {
+                if (group.vehicle != null) {
+                    results.add(new ItemResult(EntityType.VEHICLE, group.vehicle.index(), group.vehicleId, Status.CONFLICT, ex.getMessage()));
+                }
+                for (PushItem<FuelFillItem> f : group.fills) {
+                    results.add(new ItemResult(EntityType.FUEL_FILL, f.index(), f.req().getId(), Status.CONFLICT, ex.getMessage()));
+                }
+            }
+        }
+
+        results.sort(Comparator.comparing(ItemResult::getType).thenComparingInt(ItemResult::getIndex));
+        int applied = (int) results.stream().filter(r -> r.getStatus() == Status.APPLIED).count();
+        int duplicates = (int) results.stream().filter(r -> r.getStatus() == Status.DUPLICATE).count();
+        return new SyncPushResponse(applied, duplicates, results.size() - applied - duplicates, results);
+    }
+
+    private List<ItemResult> applyGroup(UUID ownerId, PushGroup group) {
+        List<ItemResult> out = new ArrayList<>();
+
+        if (group.vehicle != null) {
+            Optional<VehicleRepository.OwnershipView> existing = vehicleRepository.findOwnershipById(group.vehicleId);
+            if (existing.isEmpty()) {
+                vehicleService.createVehicle(ownerId, group.vehicleId, group.vehicle.req());
+                // the ownership check below caches the uncommitted vehicle; drop it again if we roll back
+                ownershipCache.evict(group.vehicleId);
+                out.add(new ItemResult(EntityType.VEHICLE, group.vehicle.index(), group.vehicleId, Status.APPLIED, null));
+            } else if (existing.get().getOwnerId().equals(ownerId)) {
+                out.add(new ItemResult(EntityType.VEHICLE, group.vehicle.index(), group.vehicleId, Status.DUPLICATE, null));
+            } else {
+                throw new IllegalStateException("Vehicle id is already taken");
+            }
+        }
+
+        if (group.fills.isEmpty()) return out;
+
+        Map<UUID, FuelFill> stored = fuelFillRepository
+                .findAllById(group.fills.stream().map(f -> f.req().getId()).toList()).stream()
+                .collect(Collectors.toMap(FuelFill::getId, Function.identity()));
+        List<PushItem<FuelFillItem>> fresh = new ArrayList<>();
+        for (PushItem<FuelFillItem> f : group.fills) {
+            FuelFill existing = stored.get(f.req().getId());
+            if (existing == null) {
+                fresh.add(f);
+            } else if (existing.getUserId().equals(ownerId) && existing.getVehicleId().equals(group.vehicleId)) {
+                out.add(new ItemResult(EntityType.FUEL_FILL, f.index(), f.req().getId(), Status.DUPLICATE, null));
+            } else {
+                out.add(new ItemResult(EntityType.FUEL_FILL, f.index(), f.req().getId(), Status.CONFLICT, "Fuel fill id is already taken"));
+            }
+        }
+
+        if (!fresh.isEmpty()) {
+            fuelFillService.applyVehicleFills(ownerId, group.vehicleId, fresh.stream().map(PushItem::req).toList());
+            for (PushItem<FuelFillItem> f : fresh) {
+                out.add(new ItemResult(EntityType.FUEL_FILL, f.index(), f.req().getId(), Status.APPLIED, null));
+            }
+        }
+        return out;
+    }
+
+    private String validate(Object item, UUID id) {
+        if (item == null) return "Item is empty";
+        if (id == null) return "id is required";
+        Set<ConstraintViolation<Object>> violations = validator.validate(item);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private record PushItem<T>(int index, T req) {}
+
+    // Everything in one push that targets the same vehicle
+    private static final class PushGroup {
+        private final UUID vehicleId;
+        private PushItem<VehicleItem> vehicle;
+        private final List<PushItem<FuelFillItem>> fills = new ArrayList<>();
+
+        private PushGroup(UUID vehicleId) {
+            this.vehicleId = vehicleId;
+        }
+    }
+}
@@ -3,10 +3,18 @@ package com.brijesh.vehicle_manager.service.impl;
 import com.brijesh.vehicle_manager.dto.VehicleCreateRequest;
 import com.brijesh.vehicle_manager.dto.VehicleResponse;
 import com.brijesh.vehicle_manager.dto.VehicleUpdateRequest;
+import com.brijesh.vehicle_manager.entity.SyncMetadata;
 import com.brijesh.vehicle_manager.entity.Vehicle;
+import com.brijesh.vehicle_manager.entity.VehicleFuelStats;
 import com.brijesh.vehicle_manager.exception.VehicleNotFoundException;
 import com.brijesh.vehicle_manager.mapper.VehicleMapper;
+import com.brijesh.vehicle_manager.repository.VehicleFuelStatsRepository;
 import com.brijesh.vehicle_manager.repository.VehicleRepository;
+import com.brijesh.vehicle_manager.service.MaintenanceEvaluator;
+import com.brijesh.vehicle_manager.service.SyncChangeLog;
+import com.brijesh.vehicle_manager.service.VehicleOwnershipCache;
+import com.brijesh.vehicle_manager.util.ETags;
+import com.brijesh.vehicle_manager.util.UuidV7;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,15 +32,31 @@ import java.util.stream.Collectors;
 public class VehicleServiceImpl implements com.brijesh.vehicle_manager.service.VehicleService {
 
     private final VehicleRepository vehicleRepository;
+    private final VehicleFuelStatsRepository statsRepository;
+    private final VehicleOwnershipCache ownershipCache;
+    private final SyncChangeLog syncChangeLog;
+    private final MaintenanceEvaluator maintenanceEvaluator;
 
     /**
-     * Create a vehicle for owner.
+     * Create a vehicle for owner, together with its (empty) fuel stats aggregate.
      */
     @Transactional
     @Override
     public VehicleResponse createVehicle(UUID ownerId, VehicleCreateRequest req) {
+        return createVehicle(ownerId, UuidV7.generate(), req);
+    }
+
+    /**
+     * Create with a caller-chosen id (sync push); the caller has checked that the id is free.
+     */
+    @Transactional
+    @Override
+    public VehicleResponse createVehicle(UUID ownerId, UUID vehicleId, VehicleCreateRequest req) {
         Vehicle v = VehicleMapper.fromCreate(ownerId, req);
+        v.setId(vehicleId);
         Vehicle saved = vehicleRepository.save(v);
+        statsRepository.save(VehicleFuelStats.empty(saved.getId()));
+        syncChangeLog.recordChange(ownerId, SyncMetadata.EntityType.VEHICLE, saved.getId());
         return VehicleMapper.toResponse(saved);
     }
 
@@ -52,21 +76,42 @@ public class VehicleServiceImpl implements com.brijesh.vehicle_manager.service.V
     @Transactional(readOnly = true)
     @Override
     public VehicleResponse getVehicle(UUID ownerId, UUID vehicleId) {
-        Vehicle v = vehicleRepository.findByIdAndOwnerIdAndDeletedFalse(vehicleId, ownerId)
+        Vehicle v = vehicleRepository.findOwned(vehicleId, ownerId)
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found"));
         return VehicleMapper.toResponse(v);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public String getVehicleListETag(UUID ownerId) {
+        VehicleRepository.ListVersion version = vehicleRepository.findListVersion(ownerId);
+        return ETags.of(version.getCount(), version.getLastChange());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String getVehicleETag(UUID ownerId, UUID vehicleId) {
+        return ETags.of(vehicleRepository.findVersion(vehicleId, ownerId)
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found")));
+    }
+
     /**
      * Update vehicle (only owner).
      */
     @Transactional
     @Override
     public VehicleResponse updateVehicle(UUID ownerId, UUID vehicleId, VehicleUpdateRequest req) {
-        Vehicle v = vehicleRepository.findByIdAndOwnerIdAndDeletedFalse(vehicleId, ownerId)
+        Vehicle v = vehicleRepository.findOwned(vehicleId, ownerId)
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found or access denied"));
+        Long odometerBefore = v.getCurrentOdometer();
         VehicleMapper.applyUpdate(v, req);
         Vehicle saved = vehicleRepository.save(v);
+        ownershipCache.evict(vehicleId);
+        if (saved.getCurrentOdometer() != null
+                && (odometerBefore == null || saved.getCurrentOdometer() > odometerBefore)) {
+            maintenanceEvaluator.onOdometer(vehicleId, saved.getCurrentOdometer());
+        }
+        syncChangeLog.recordChange(ownerId, SyncMetadata.EntityType.VEHICLE, vehicleId);
         return VehicleMapper.toResponse(saved);
     }
 
@@ -76,9 +121,12 @@ public class VehicleServiceImpl implements com.brijesh.vehicle_manager.service.V
     @Transactional
     @Override
     public void deleteVehicle(UUID ownerId, UUID vehicleId) {
-        Vehicle v = vehicleRepository.findByIdAndOwnerIdAndDeletedFalse(vehicleId, ownerId)
+        Vehicle v = vehicleRepository.findOwned(vehicleId, ownerId)
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found or access denied"));
         v.setDeleted(true);
         vehicleRepository.save(v);
+        ownershipCache.evict(vehicleId);
+        syncChangeLog.recordChange(ownerId, SyncMetadata.EntityType.VEHICLE, vehicleId);
     }
+
 }
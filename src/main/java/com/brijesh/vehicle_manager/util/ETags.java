@@ -0,0 +1,35 @@
+package com.brijesh.vehicle_manager.util;
+
+import java.time.Instant;
+import java.util.StringJoiner;
+
+/**
+ * Strong ETag values built from version columns (timestamps, counters) rather than from the response body,
+ * so a conditional GET can be answered before anything is loaded or serialized.
+ */
+public final class ETags {
+
+    private ETags() {}
+
+    /**
+     * Quoted tag of the given parts; instants are rendered to microseconds, the precision the columns keep.
+     */
+    public static String of(Object... parts) {
+        StringJoiner tag = new StringJoiner("-", "\"", "\"");
+        for (Object part : parts) {
+            if (part instanceof Instant i) {
+                tag.add(i.getEpochSecond() + "." + i.getNano() / 1000);
+            } else {
+                tag.add(String.valueOf(part));
+            }
+        }
+        return tag.toString();
+    }
+
+    /**
+     * Tag for another representation of the same version (e.g. a different encoding); strong tags must differ.
+     */
+    public static String variant(String etag, String variant) {
+        return etag.substring(0, etag.length() - 1) + "-" + variant + "\"";
+    }
+}
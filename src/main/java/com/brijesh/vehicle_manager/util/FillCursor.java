@@ -0,0 +1,31 @@
+package com.brijesh.vehicle_manager.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for fill pages: the (fillDate, id) of the last row served plus the sort direction.
+ * Encoded as url-safe base64 so clients treat it as a token rather than something to build themselves.
+ */
+public record FillCursor(boolean newestFirst, LocalDate fillDate, UUID id) {
+
+    public String encode() {
+        String raw = (newestFirst ? "d" : "a") + "|" + fillDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FillCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !(parts[0].equals("a") || parts[0].equals("d"))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new FillCursor(parts[0].equals("d"), LocalDate.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
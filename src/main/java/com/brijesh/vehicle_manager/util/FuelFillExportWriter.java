@@ -0,0 +1,120 @@
+package com.brijesh.vehicle_manager.util;
+
+import com.brijesh.vehicle_manager.dto.FuelFillResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes fill rows one at a time to an output stream as NDJSON or CSV.
+ * Nothing is buffered beyond the output buffer, so memory use does not depend on the number of rows.
+ */
+public final class FuelFillExportWriter implements Closeable {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format parse(String value) {
+            for (Format f : values()) {
+                if (f.name().equalsIgnoreCase(value)) return f;
+            }
+            throw new IllegalArgumentException("format must be 'ndjson' or 'csv'");
+        }
+    }
+
+    private static final String CSV_HEADER =
+            "id,vehicleId,fillDate,odometerReading,fuelVolume,pricePerLiter,totalAmount,mileage,estimated,notes\n";
+
+    private final Format format;
+    private final JsonGenerator json;
+    private final ObjectWriter rowWriter;
+    private final Writer csv;
+
+    public FuelFillExportWriter(Format format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        if (format == Format.NDJSON) {
+            this.json = objectMapper.getFactory().createGenerator(buffered);
+            this.json.setRootValueSeparator(null); // rows are newline-terminated below
+            this.rowWriter = objectMapper.writerFor(FuelFillResponse.class);
+            this.csv = null;
+        } else {
+            this.json = null;
+            this.rowWriter = null;
+            this.csv = new OutputStreamWriter(buffered, StandardCharsets.UTF_8);
+            this.csv.write(CSV_HEADER);
+        }
+    }
+
+    /**
+     * Write one row. IO failures (typically the client going away) are rethrown unchecked so this can be used as a sink.
+     */
+    public void write(FuelFillResponse r) {
+        try {
+            if (format == Format.NDJSON) {
+                rowWriter.writeValue(json, r);
+                json.writeRaw('\n');
+            } else {
+                csv.write(csvLine(r));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.close();
+        } else {
+            csv.close();
+        }
+    }
+
+    private static String csvLine(FuelFillResponse r) {
+        return String.join(",",
+                str(r.getId()),
+                str(r.getVehicleId()),
+                str(r.getFillDate()),
+                str(r.getOdometerReading()),
+                num(r.getFuelVolume()),
+                num(r.getPricePerLiter()),
+                num(r.getTotalAmount()),
+                num(r.getMileage()),
+                String.valueOf(r.isEstimated()),
+                quote(r.getNotes())) + "\n";
+    }
+
+    private static String str(Object o) {
+        return o == null ? "" : o.toString();
+    }
+
+    private static String num(BigDecimal b) {
+        return b == null ? "" : b.toPlainString();
+    }
+
+    private static String quote(String s) {
+        if (s == null) return "";
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+}
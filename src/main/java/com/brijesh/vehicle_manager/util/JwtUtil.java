@@ -9,6 +9,8 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Date;
 import java.util.UUID;
@@ -21,11 +23,20 @@ import java.util.UUID;
 @Component
 public class JwtUtil {
 
+    // Which kind of token this is; only access tokens are accepted as bearer credentials
+    public static final String TOKEN_USE_CLAIM = "token_use";
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+    // Issue time in epoch milliseconds; iat has second precision, too coarse to order a login against a logout
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
+
     private final String secret;
     private final long accessTokenValiditySeconds;
     private final long refreshTokenValiditySeconds;
 
     private Key key;
+    // Parsers are immutable and thread-safe; build once instead of per call
+    private JwtParser parser;
 
     public JwtUtil(
             @Value("${app.jwt.secret}") String secret,
@@ -49,6 +60,9 @@ public class JwtUtil {
             keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         }
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
@@ -58,6 +72,8 @@ public class JwtUtil {
         Instant now = Instant.now();
         return Jwts.builder()
                 .setSubject(userId.toString())
+                .claim(TOKEN_USE_CLAIM, ACCESS)
+                .claim(ISSUED_AT_MS_CLAIM, now.toEpochMilli())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusSeconds(accessTokenValiditySeconds)))
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -72,21 +88,40 @@ public class JwtUtil {
         return Jwts.builder()
                 .setSubject(userId.toString())
                 .setId(UUID.randomUUID().toString())
+                .claim(TOKEN_USE_CLAIM, REFRESH)
+                .claim(ISSUED_AT_MS_CLAIM, now.toEpochMilli())
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(now.plusSeconds(refreshTokenValiditySeconds)))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verify signature/expiry and return the claims the security filter needs. Throws JwtException when invalid/expired.
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Instant expiresAt = claims.getExpiration().toInstant();
+        Number issuedAtMs = claims.get(ISSUED_AT_MS_CLAIM, Number.class);
+        Instant issuedAt = issuedAtMs != null ? Instant.ofEpochMilli(issuedAtMs.longValue())
+                : claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+        return new VerifiedToken(UUID.fromString(claims.getSubject()), tokenUse(claims, issuedAt, expiresAt),
+                issuedAt, expiresAt);
+    }
+
+    // Tokens from before the claim existed: only an access token lives no longer than the access validity
+    private String tokenUse(Claims claims, Instant issuedAt, Instant expiresAt) {
+        String use = claims.get(TOKEN_USE_CLAIM, String.class);
+        if (use != null) return use;
+        if (issuedAt == null) return REFRESH;
+        return expiresAt.getEpochSecond() - issuedAt.getEpochSecond() <= accessTokenValiditySeconds ? ACCESS : REFRESH;
+    }
+
     /**
      * Parse subject (userId) from a token. Throws JwtException when invalid/expired.
      */
     public UUID parseTokenSubject(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
         return UUID.fromString(claims.getSubject());
     }
 
@@ -94,11 +129,29 @@ public class JwtUtil {
      * Return token expiration time as Instant
      */
     public Instant getExpiration(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
         return claims.getExpiration().toInstant();
     }
+
+    /**
+     * SHA-256 of the token text (32 bytes); used wherever a token is stored or keyed instead of the raw value.
+     */
+    public static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    /**
+     * Claims of a token whose signature and expiry have been checked; issuedAt has millisecond precision
+     * (second precision for tokens issued before iat_ms existed).
+     */
+    public record VerifiedToken(UUID subject, String tokenUse, Instant issuedAt, Instant expiresAt) {
+
+        public boolean isAccessToken() {
+            return ACCESS.equals(tokenUse);
+        }
+    }
 }
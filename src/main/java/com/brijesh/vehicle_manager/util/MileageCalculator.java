@@ -1,4 +1,173 @@
 package com.brijesh.vehicle_manager.util;
 
-public class MileageCalculator {
+import com.brijesh.vehicle_manager.entity.FuelFill;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Fixed-point counterpart of {@link MileageUtil}.
+ * Works on scaled longs instead of BigDecimal arithmetic:
+ * - volume in millilitres (scale 3), money in paise (scale 2), mileage in metres per litre (scale 3), distance in km
+ * Every result is bit-identical to MileageUtil, including its double rounding (HALF_UP to 6 places, then to the
+ * target scale). BigDecimal inputs with more decimals than the unit allows, or values that would overflow,
+ * fall back to MileageUtil so callers never see a different answer.
+ */
+public final class MileageCalculator {
+
+    private static final long[] POW10 = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+            10_000_000L, 100_000_000L, 1_000_000_000L};
+
+    private MileageCalculator() {}
+
+    // ---------------------------------------------------------------- scaled long core
+
+    /**
+     * km per litre (scale 3) for a distance and a volume in millilitres; volumeMl must be positive.
+     */
+    public static long mileageMilli(long distanceKm, long volumeMl) {
+        // distance / (ml / 10^3) rounded to 6 places, then to 3
+        long micro = divHalfUp(Math.multiplyExact(distanceKm, POW10[9]), volumeMl);
+        return divHalfUp(micro, POW10[3]);
+    }
+
+    /**
+     * Volume (ml) needed to cover a distance at a mileage in metres per litre (scale 3); mileageMilli must be positive.
+     */
+    public static long volumeMl(long distanceKm, long mileageMilli) {
+        // distance / (mileage / 10^3) rounded to 6 places, then to 3
+        long micro = divHalfUp(Math.multiplyExact(distanceKm, POW10[9]), mileageMilli);
+        return divHalfUp(micro, POW10[3]);
+    }
+
+    /**
+     * volume (ml) x price (paise per litre) rounded to paise.
+     */
+    public static long totalPaise(long volumeMl, long pricePaise) {
+        return divHalfUp(Math.multiplyExact(volumeMl, pricePaise), POW10[3]);
+    }
+
+    /**
+     * cost (paise) per km rounded to paise; distanceKm must be positive.
+     */
+    public static long costPerKmPaise(long costPaise, long distanceKm) {
+        long micro = divHalfUp(Math.multiplyExact(costPaise, POW10[4]), distanceKm);
+        return divHalfUp(micro, POW10[4]);
+    }
+
+    /**
+     * Average of the first min(window, length) values, all at the given scale (<= 6), result at the same scale.
+     * Returns Long.MIN_VALUE when there is nothing to average.
+     */
+    public static long rollingAverage(long[] values, int length, int window, int scale) {
+        int n = Math.min(window, length);
+        if (n <= 0) return Long.MIN_VALUE;
+        long sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum = Math.addExact(sum, values[i]);
+        }
+        long step = POW10[6 - scale];
+        long micro = divHalfUp(Math.multiplyExact(sum, step), n);
+        return divHalfUp(micro, step);
+    }
+
+    /**
+     * num / den rounded HALF_UP (ties away from zero), den > 0.
+     */
+    static long divHalfUp(long num, long den) {
+        long q = num / den;
+        long r = Math.abs(num % den);
+        if (r >= den - r) {
+            q += num < 0 ? -1 : 1;
+        }
+        return q;
+    }
+
+    // ---------------------------------------------------------------- BigDecimal adapters (same contracts as MileageUtil)
+
+    public static BigDecimal computeMileage(long distanceKm, BigDecimal liters) {
+        if (liters == null || liters.signum() <= 0) return null;
+        try {
+            return BigDecimal.valueOf(mileageMilli(distanceKm, toScaled(liters, 3)), 3);
+        } catch (ArithmeticException ex) {
+            return MileageUtil.computeMileage(distanceKm, liters);
+        }
+    }
+
+    /**
+     * Litres (scale 3) for a distance at a mileage: distance / mileage to 6 places, then to 3. Null unless the
+     * mileage is positive.
+     */
+    public static BigDecimal estimateVolume(long distanceKm, BigDecimal mileage) {
+        if (mileage == null || mileage.signum() <= 0) return null;
+        try {
+            return BigDecimal.valueOf(volumeMl(distanceKm, toScaled(mileage, 3)), 3);
+        } catch (ArithmeticException ex) {
+            return BigDecimal.valueOf(distanceKm).divide(mileage, 6, RoundingMode.HALF_UP)
+                    .setScale(3, RoundingMode.HALF_UP);
+        }
+    }
+
+    public static BigDecimal multiply(BigDecimal liters, BigDecimal pricePerLiter) {
+        if (liters == null || pricePerLiter == null) return null;
+        try {
+            return BigDecimal.valueOf(totalPaise(toScaled(liters, 3), toScaled(pricePerLiter, 2)), 2);
+        } catch (ArithmeticException ex) {
+            return MileageUtil.multiply(liters, pricePerLiter);
+        }
+    }
+
+    /**
+     * Same rounding as the stats endpoint: totalCost / distance to 6 places, then to 2. distanceKm must be positive.
+     */
+    public static BigDecimal costPerKm(BigDecimal totalCost, long distanceKm) {
+        try {
+            return BigDecimal.valueOf(costPerKmPaise(toScaled(totalCost, 2), distanceKm), 2);
+        } catch (ArithmeticException ex) {
+            return totalCost.divide(BigDecimal.valueOf(distanceKm), 6, RoundingMode.HALF_UP)
+                    .setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * Rolling average mileage over a window already filtered to positive mileages, newest first
+     * (as returned by FuelFillRepository.findRecentWithMileage).
+     */
+    public static BigDecimal rollingAvgMileage(List<FuelFill> window, int size) {
+        if (window == null || window.isEmpty()) return null;
+        try {
+            long[] values = new long[window.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = toScaled(window.get(i).getMileage(), 3);
+            }
+            return BigDecimal.valueOf(rollingAverage(values, values.length, size, 3), 3);
+        } catch (ArithmeticException ex) {
+            return MileageUtil.rollingAvgMileage(window, size);
+        }
+    }
+
+    /**
+     * Rolling average price per litre over a window already filtered to positive prices, newest first
+     * (as returned by FuelFillRepository.findRecentWithPrice).
+     */
+    public static BigDecimal rollingAvgPrice(List<FuelFill> window, int size) {
+        if (window == null || window.isEmpty()) return null;
+        try {
+            long[] values = new long[window.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = toScaled(window.get(i).getPricePerLiter(), 2);
+            }
+            return BigDecimal.valueOf(rollingAverage(values, values.length, size, 2), 2);
+        } catch (ArithmeticException ex) {
+            return MileageUtil.rollingAvgPrice(window, size);
+        }
+    }
+
+    /**
+     * Exact conversion to a scaled long; ArithmeticException if the value has more decimals or does not fit.
+     */
+    private static long toScaled(BigDecimal value, int scale) {
+        return value.movePointRight(scale).longValueExact();
+    }
 }
@@ -0,0 +1,29 @@
+package com.brijesh.vehicle_manager.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): 48-bit Unix epoch milliseconds, then 74 random bits.
+ * Stored as BINARY(16) the leading bytes are the timestamp, so new primary keys land at the right edge of the
+ * clustered index instead of on random pages. Ids are not secrets (every lookup is ownership-checked),
+ * so the random part comes from ThreadLocalRandom rather than SecureRandom.
+ */
+public final class UuidV7 {
+
+    private UuidV7() {}
+
+    public static UUID generate() {
+        return at(System.currentTimeMillis());
+    }
+
+    static UUID at(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (epochMillis << 16)              // unix_ts_ms
+                | 0x7000L                           // version 7
+                | (random.nextLong() & 0x0FFFL);    // rand_a
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL)
+                | 0x8000000000000000L;              // variant 10, rand_b
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,64 @@
+package com.brijesh.vehicle_manager.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers access tokens whose signature was already verified, so a client sending the same token
+ * on every request pays for HMAC verification and claim parsing only once.
+ * - Keyed by SHA-256 of the token, raw tokens are never held in memory
+ * - Bounded size; each entry expires exactly when the token does
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtUtil.VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              @Value("${app.jwt.cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, JwtUtil.VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtUtil.VerifiedToken value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtUtil.VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtUtil.VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Same contract as {@link JwtUtil#verify(String)}: throws JwtException for invalid or expired tokens.
+     */
+    public JwtUtil.VerifiedToken verify(String token) {
+        String key = Base64.getEncoder().encodeToString(JwtUtil.digest(token));
+        JwtUtil.VerifiedToken cached = cache.getIfPresent(key);
+        // expiry is also checked here: eviction of expired entries is lazy
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(token);
+        cache.put(key, verified);
+        return verified;
+    }
+}
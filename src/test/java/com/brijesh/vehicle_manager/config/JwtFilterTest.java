@@ -0,0 +1,97 @@
+package com.brijesh.vehicle_manager.config;
+
+import com.brijesh.vehicle_manager.repository.UserRepository;
+import com.brijesh.vehicle_manager.service.AccessTokenRevocations;
+import com.brijesh.vehicle_manager.util.JwtUtil;
+import com.brijesh.vehicle_manager.util.VerifiedTokenCache;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtFilterTest {
+
+	private final UUID userId = UUID.randomUUID();
+
+	private JwtUtil jwtUtil;
+	private AccessTokenRevocations revocations;
+	private OncePerRequestFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil("test-secret-test-secret-test-secret!!", 3600, 1209600);
+		jwtUtil.init();
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.findTokenWatermarksAfter(any())).thenReturn(List.of());
+		revocations = new AccessTokenRevocations(userRepository, 3600);
+		filter = new SecurityConfig(new VerifiedTokenCache(jwtUtil, 100), revocations).jwtFilter();
+	}
+
+	@AfterEach
+	void clearContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void acceptsAccessToken() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = send(jwtUtil.generateAccessToken(userId), chain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(chain.getRequest()).isNotNull();
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo(userId.toString());
+	}
+
+	@Test
+	void rejectsRefreshTokenAsBearer() throws Exception {
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = send(jwtUtil.generateRefreshToken(userId), chain);
+
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void rejectsRefreshTokenEvenAfterWatermarkIsTrimmed() throws Exception {
+		// a logout older than the access validity is no longer tracked; the refresh token must still fail
+		String refresh = jwtUtil.generateRefreshToken(userId);
+		revocations.revoke(userId, Instant.now().minusSeconds(7200));
+		revocations.reload();
+
+		assertThat(send(refresh, new MockFilterChain()).getStatus()).isEqualTo(401);
+	}
+
+	@Test
+	void logoutRevokesEarlierTokensButNotALoginInTheSameSecond() throws Exception {
+		String before = jwtUtil.generateAccessToken(userId);
+		Thread.sleep(2);
+		revocations.revoke(userId, Instant.now());
+		Thread.sleep(2);
+		String after = jwtUtil.generateAccessToken(userId);
+
+		assertThat(send(before, new MockFilterChain()).getStatus()).isEqualTo(401);
+		assertThat(send(after, new MockFilterChain()).getStatus()).isEqualTo(200);
+	}
+
+	private MockHttpServletResponse send(String token, FilterChain chain) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/vehicles/my");
+		request.addHeader("Authorization", "Bearer " + token);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+}
@@ -0,0 +1,132 @@
+package com.brijesh.vehicle_manager.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing through the same proxy ReadReplicaConfig builds, over two separate in-memory databases that hold
+ * different data, so every read shows which one served it.
+ */
+class ReplicaDataSourceTest {
+
+	private HikariDataSource primary;
+	private ReplicaDataSource replicaDataSource;
+	private JdbcTemplate jdbc;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		primary = pool("primary", database("primary"));
+		HikariDataSource replica = pool("replica-1", database("replica"));
+		useDatabase(primary, "primary");
+		useDatabase(replica, "replica");
+		build(replica);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		replicaDataSource.close();
+		primary.close();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToTheReplica() {
+		assertThat(servedBy(readOnly)).isEqualTo("replica");
+	}
+
+	@Test
+	void readWriteTransactionsGoToThePrimary() {
+		assertThat(servedBy(readWrite)).isEqualTo("primary");
+	}
+
+	@Test
+	void aUserWhoJustWroteReadsFromThePrimary() {
+		authenticate("writer");
+		readWrite.executeWithoutResult(status -> jdbc.update("insert into fill (note) values ('new')"));
+
+		assertThat(servedBy(readOnly)).isEqualTo("primary");
+		assertThat(fillCount(readOnly)).isEqualTo(1);
+
+		// the window is per user: someone else still reads the replica, which has not seen the write
+		authenticate("reader");
+		assertThat(servedBy(readOnly)).isEqualTo("replica");
+		assertThat(fillCount(readOnly)).isZero();
+	}
+
+	@Test
+	void aDownReplicaFallsBackToThePrimary() {
+		replicaDataSource.close();
+		HikariConfig down = config("replica-down", "jdbc:h2:tcp://localhost:1/mem:missing");
+		down.setConnectionTimeout(250);
+		down.setInitializationFailTimeout(-1);
+		build(new HikariDataSource(down));
+
+		assertThat(servedBy(readOnly)).isEqualTo("primary");
+	}
+
+	private void build(HikariDataSource replicaPool) {
+		replicaDataSource = new ReplicaDataSource(primary, List.of(replicaPool), Duration.ofSeconds(30),
+				Duration.ofSeconds(5), new SimpleMeterRegistry());
+		DataSource routing = new ReadReplicaConfig().dataSource(replicaDataSource);
+		jdbc = new JdbcTemplate(routing);
+		DataSourceTransactionManager txManager = new DataSourceTransactionManager(routing);
+		readWrite = new TransactionTemplate(txManager);
+		readOnly = new TransactionTemplate(txManager);
+		readOnly.setReadOnly(true);
+	}
+
+	private String servedBy(TransactionTemplate tx) {
+		return tx.execute(status -> jdbc.queryForObject("select name from served_by", String.class));
+	}
+
+	private Integer fillCount(TransactionTemplate tx) {
+		return tx.execute(status -> jdbc.queryForObject("select count(*) from fill", Integer.class));
+	}
+
+	private static void useDatabase(DataSource ds, String name) {
+		JdbcTemplate setup = new JdbcTemplate(ds);
+		setup.execute("create table served_by (name varchar(20))");
+		setup.update("insert into served_by values (?)", name);
+		setup.execute("create table fill (note varchar(20))");
+	}
+
+	private static void authenticate(String userId) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+	}
+
+	private static String database(String name) {
+		return "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+	}
+
+	private static HikariDataSource pool(String poolName, String url) {
+		return new HikariDataSource(config(poolName, url));
+	}
+
+	private static HikariConfig config(String poolName, String url) {
+		HikariConfig config = new HikariConfig();
+		config.setPoolName(poolName);
+		config.setJdbcUrl(url);
+		config.setUsername("sa");
+		config.setMaximumPoolSize(2);
+		return config;
+	}
+}
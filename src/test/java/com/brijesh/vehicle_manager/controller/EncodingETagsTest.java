@@ -0,0 +1,68 @@
+package com.brijesh.vehicle_manager.controller;
+
+import com.brijesh.vehicle_manager.dto.VehicleResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EncodingETagsTest {
+
+	private static final String ETAG = "\"3-1700000000.123456\"";
+
+	// same converter set as the application: Boot's defaults with the CBOR/Smile beans in their slots
+	private final EncodingETags encodingETags = new EncodingETags(new ContentNegotiationManager(),
+			new HttpMessageConverters(List.of(new MappingJackson2CborHttpMessageConverter(),
+					new MappingJackson2SmileHttpMessageConverter())));
+
+	@Test
+	void plainTagForJsonAndWildcards() {
+		assertThat(tag(null)).isEqualTo(ETAG);
+		assertThat(tag("*/*")).isEqualTo(ETAG);
+		assertThat(tag("application/json")).isEqualTo(ETAG);
+		assertThat(tag("text/html, */*;q=0.8")).isEqualTo(ETAG);
+	}
+
+	@Test
+	void variantTagPerBinaryEncoding() {
+		assertThat(tag("application/cbor")).isEqualTo("\"3-1700000000.123456-cbor\"");
+		assertThat(tag("application/x-jackson-smile")).isEqualTo("\"3-1700000000.123456-smile\"");
+	}
+
+	@Test
+	void followsQualityValuesNotSubstrings() {
+		assertThat(tag("application/json, application/cbor;q=0.1")).isEqualTo(ETAG);
+		assertThat(tag("application/cbor, application/json;q=0.5")).isEqualTo("\"3-1700000000.123456-cbor\"");
+		assertThat(tag("application/cbor;q=0.2, application/x-jackson-smile")).isEqualTo("\"3-1700000000.123456-smile\"");
+	}
+
+	@Test
+	void unacceptableTypeKeepsPlainTag() {
+		assertThat(tag("image/png")).isEqualTo(ETAG);
+	}
+
+	@Test
+	void varyAcceptAddedOnceEvenWithoutTag() {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest(), response);
+
+		assertThat(encodingETags.tag(null, VehicleResponse.class, request)).isNull();
+		encodingETags.tag(ETAG, VehicleResponse.class, request);
+
+		assertThat(response.getHeaders("Vary")).containsExactly("Accept");
+	}
+
+	private String tag(String accept) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (accept != null) request.addHeader("Accept", accept);
+		return encodingETags.tag(ETAG, VehicleResponse.class, new ServletWebRequest(request, new MockHttpServletResponse()));
+	}
+}
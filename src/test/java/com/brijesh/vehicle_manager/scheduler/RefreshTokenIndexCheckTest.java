@@ -0,0 +1,41 @@
+package com.brijesh.vehicle_manager.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenIndexCheckTest {
+
+	@Test
+	void acceptsTheMappedSchema() throws SQLException {
+		assertThat(check("create table refresh_token (id bigint primary key, token_hash binary(32) not null unique, "
+				+ "user_id uuid not null)")).isTrue();
+	}
+
+	@Test
+	void rejectsATableWhoseUniqueConstraintWasNeverCreated() throws SQLException {
+		// what ddl-auto=update leaves behind on a populated table
+		assertThat(check("create table refresh_token (id bigint primary key, token varchar(512) not null, "
+				+ "token_hash binary(32) not null)")).isFalse();
+	}
+
+	@Test
+	void rejectsAUniqueIndexThatOnlyIncludesTheHash() throws SQLException {
+		assertThat(check("create table refresh_token (id bigint primary key, token_hash binary(32) not null, "
+				+ "user_id uuid not null, unique (user_id, token_hash))")).isFalse();
+	}
+
+	private static boolean check(String ddl) throws SQLException {
+		try (Connection con = DriverManager.getConnection("jdbc:h2:mem:")) {
+			try (Statement st = con.createStatement()) {
+				st.execute(ddl);
+			}
+			return RefreshTokenIndexCheck.hasUniqueTokenHashIndex(con);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.brijesh.vehicle_manager.scheduler;
+
+import com.brijesh.vehicle_manager.service.ReminderService;
+import com.brijesh.vehicle_manager.service.ReminderService.Due;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReminderSchedulerTest {
+
+	private final ReminderService reminderService = mock(ReminderService.class);
+
+	@Test
+	void rejectsNonPositiveLimits() {
+		assertThatThrownBy(() -> new ReminderScheduler(reminderService, Duration.ofMinutes(15), 500, 0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("max-loaded");
+		assertThatThrownBy(() -> new ReminderScheduler(reminderService, Duration.ofMinutes(15), 0, 100))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("batch-size");
+	}
+
+	@Test
+	void refillWithNothingDueLoadsTheWholeWindow() {
+		when(reminderService.findDueBefore(any(), anyInt())).thenReturn(List.of());
+		ReminderScheduler scheduler = new ReminderScheduler(reminderService, Duration.ofMinutes(15), 500, 1);
+
+		assertThatCode(scheduler::refill).doesNotThrowAnyException();
+
+		// an occurrence inside the window counts as loaded and is queued from its event
+		Due soon = new Due(UUID.randomUUID(), Instant.now().minusSeconds(1));
+		scheduler.onDueChanged(soon);
+		when(reminderService.fire(List.of(soon))).thenReturn(List.of());
+		scheduler.fireDue();
+		verify(reminderService).fire(List.of(soon));
+	}
+
+	@Test
+	void truncatedRefillOnlyCountsWhatWasRead() {
+		Due read = new Due(UUID.randomUUID(), Instant.now().minusSeconds(10));
+		when(reminderService.findDueBefore(any(), anyInt())).thenReturn(List.of(read));
+		when(reminderService.fire(any())).thenReturn(List.of());
+		ReminderScheduler scheduler = new ReminderScheduler(reminderService, Duration.ofMinutes(15), 500, 1);
+		scheduler.refill();
+
+		// later than the last row read: left for the next refill instead of queued
+		scheduler.onDueChanged(new Due(UUID.randomUUID(), Instant.now().minusSeconds(5)));
+		scheduler.fireDue();
+		verify(reminderService).fire(List.of(read));
+	}
+}
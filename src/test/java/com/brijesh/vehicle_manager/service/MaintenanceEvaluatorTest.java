@@ -0,0 +1,72 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.repository.MaintenanceRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MaintenanceEvaluatorTest {
+
+	private final UUID vehicleId = UUID.randomUUID();
+
+	private MaintenanceRuleRepository ruleRepository;
+	private MaintenanceEvaluator evaluator;
+
+	@BeforeEach
+	void setUp() {
+		ruleRepository = mock(MaintenanceRuleRepository.class);
+		evaluator = new MaintenanceEvaluator(ruleRepository, 100, Duration.ofMinutes(10));
+	}
+
+	@Test
+	void readingsBelowTheCachedThresholdCostNoQuery() {
+		when(ruleRepository.findNextDueOdometer(vehicleId)).thenReturn(5_000L);
+
+		evaluator.onOdometer(vehicleId, 1_000);
+		evaluator.onOdometer(vehicleId, 2_000);
+
+		verify(ruleRepository, times(1)).findNextDueOdometer(vehicleId);
+		verify(ruleRepository, never()).markDueByOdometer(any(), anyLong(), any());
+	}
+
+	@Test
+	void thresholdOverlappingAnInvalidationIsNotCached() {
+		// the fill reads "no rules" before a rule create commits; the create's invalidations run during the query
+		when(ruleRepository.findNextDueOdometer(vehicleId))
+				.thenAnswer(inv -> {
+					evaluator.invalidate(vehicleId);
+					return null;
+				})
+				.thenReturn(5_000L);
+
+		evaluator.onOdometer(vehicleId, 1_000);
+		evaluator.onOdometer(vehicleId, 6_000);
+
+		verify(ruleRepository).markDueByOdometer(eq(vehicleId), eq(6_000L), any(Instant.class));
+	}
+
+	@Test
+	void thresholdExpiresAfterTtl() throws InterruptedException {
+		evaluator = new MaintenanceEvaluator(ruleRepository, 100, Duration.ofMillis(50));
+		// another instance adds a rule after this one cached "no rules"
+		when(ruleRepository.findNextDueOdometer(vehicleId)).thenReturn(null).thenReturn(5_000L);
+
+		evaluator.onOdometer(vehicleId, 1_000);
+		Thread.sleep(100);
+		evaluator.onOdometer(vehicleId, 6_000);
+
+		verify(ruleRepository).markDueByOdometer(eq(vehicleId), eq(6_000L), any(Instant.class));
+	}
+}
@@ -0,0 +1,68 @@
+package com.brijesh.vehicle_manager.service;
+
+import com.brijesh.vehicle_manager.exception.ResourceNotFoundException;
+import com.brijesh.vehicle_manager.repository.VehicleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VehicleOwnershipCacheTest {
+
+	private final UUID ownerId = UUID.randomUUID();
+	private final UUID vehicleId = UUID.randomUUID();
+
+	private VehicleRepository vehicleRepository;
+	private VehicleOwnershipCache cache;
+
+	@BeforeEach
+	void setUp() {
+		vehicleRepository = mock(VehicleRepository.class);
+		cache = new VehicleOwnershipCache(vehicleRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+	}
+
+	@Test
+	void cachesOwnershipAfterFirstLoad() {
+		VehicleRepository.OwnershipView live = view(false);
+		when(vehicleRepository.findOwnershipById(vehicleId)).thenReturn(Optional.of(live));
+
+		cache.requireOwner(ownerId, vehicleId);
+		cache.requireOwner(ownerId, vehicleId);
+
+		verify(vehicleRepository, times(1)).findOwnershipById(vehicleId);
+	}
+
+	@Test
+	void loadOverlappingAnEvictionIsNotCached() {
+		VehicleRepository.OwnershipView beforeDelete = view(false);
+		VehicleRepository.OwnershipView afterDelete = view(true);
+		// the reader sees the row before the delete commits; the delete's invalidations run during the load
+		when(vehicleRepository.findOwnershipById(vehicleId))
+				.thenAnswer(inv -> {
+					cache.evict(vehicleId);
+					return Optional.of(beforeDelete);
+				})
+				.thenReturn(Optional.of(afterDelete));
+
+		cache.requireOwner(ownerId, vehicleId);
+
+		assertThatThrownBy(() -> cache.requireOwner(ownerId, vehicleId))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	private VehicleRepository.OwnershipView view(boolean deleted) {
+		VehicleRepository.OwnershipView view = mock(VehicleRepository.OwnershipView.class);
+		when(view.getOwnerId()).thenReturn(ownerId);
+		when(view.isDeleted()).thenReturn(deleted);
+		return view;
+	}
+}
@@ -0,0 +1,33 @@
+package com.brijesh.vehicle_manager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ETagsTest {
+
+	@Test
+	void quotesAndJoinsParts() {
+		assertThat(ETags.of(3L, "abc")).isEqualTo("\"3-abc\"");
+		assertThat(ETags.of()).isEqualTo("\"\"");
+		assertThat(ETags.of((Object) null)).isEqualTo("\"null\"");
+	}
+
+	@Test
+	void rendersInstantsToMicroseconds() {
+		Instant instant = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+		assertThat(ETags.of(instant)).isEqualTo("\"1700000000.123456\"");
+		// sub-microsecond differences are below the columns' precision and must not change the tag
+		assertThat(ETags.of(instant.plusNanos(200))).isEqualTo(ETags.of(instant));
+		assertThat(ETags.of(instant.plusNanos(1_000))).isNotEqualTo(ETags.of(instant));
+	}
+
+	@Test
+	void variantStaysQuotedAndDistinct() {
+		String etag = ETags.of(2L, Instant.ofEpochSecond(5));
+		assertThat(ETags.variant(etag, "cbor")).isEqualTo("\"2-5.0-cbor\"");
+		assertThat(ETags.variant(etag, "cbor")).isNotEqualTo(ETags.variant(etag, "smile"));
+	}
+}
@@ -0,0 +1,46 @@
+package com.brijesh.vehicle_manager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FillCursorTest {
+
+	@Test
+	void roundTripsBothDirections() {
+		UUID id = UuidV7.generate();
+		for (boolean newestFirst : new boolean[]{true, false}) {
+			FillCursor cursor = new FillCursor(newestFirst, LocalDate.of(2026, 3, 31), id);
+			assertThat(FillCursor.decode(cursor.encode())).isEqualTo(cursor);
+		}
+	}
+
+	@Test
+	void encodesAsUrlSafeToken() {
+		for (int i = 0; i < 200; i++) {
+			String token = new FillCursor(i % 2 == 0, LocalDate.of(2026, 1, 1).plusDays(i), UUID.randomUUID()).encode();
+			assertThat(token).matches("[A-Za-z0-9_-]+");
+		}
+	}
+
+	@Test
+	void rejectsMalformedCursors() {
+		String id = UUID.randomUUID().toString();
+		for (String raw : new String[]{"", "x|2026-01-01|" + id, "d|2026-13-01|" + id, "a|2026-01-01|not-a-uuid",
+				"d|2026-01-01", "d|2026-01-01|" + id + "|extra"}) {
+			String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+			assertThatThrownBy(() -> FillCursor.decode(token))
+					.as(raw)
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("Invalid cursor");
+		}
+		assertThatThrownBy(() -> FillCursor.decode("%%%")).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> FillCursor.decode(null)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
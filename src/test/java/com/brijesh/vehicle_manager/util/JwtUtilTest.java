@@ -0,0 +1,69 @@
+package com.brijesh.vehicle_manager.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+	private static final String SECRET = "test-secret-test-secret-test-secret!!";
+
+	private JwtUtil jwtUtil;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(SECRET, 3600, 1209600);
+		jwtUtil.init();
+	}
+
+	@Test
+	void accessAndRefreshTokensCarryTheirUse() {
+		UUID userId = UUID.randomUUID();
+
+		JwtUtil.VerifiedToken access = jwtUtil.verify(jwtUtil.generateAccessToken(userId));
+		JwtUtil.VerifiedToken refresh = jwtUtil.verify(jwtUtil.generateRefreshToken(userId));
+
+		assertThat(access.subject()).isEqualTo(userId);
+		assertThat(access.isAccessToken()).isTrue();
+		assertThat(refresh.tokenUse()).isEqualTo(JwtUtil.REFRESH);
+		assertThat(refresh.isAccessToken()).isFalse();
+	}
+
+	@Test
+	void issuedAtHasMillisecondPrecision() {
+		Instant before = Instant.now();
+		JwtUtil.VerifiedToken access = jwtUtil.verify(jwtUtil.generateAccessToken(UUID.randomUUID()));
+
+		assertThat(access.issuedAt()).isBetween(before.minusMillis(1), Instant.now());
+		assertThat(access.issuedAt().toEpochMilli()).isGreaterThanOrEqualTo(before.toEpochMilli());
+	}
+
+	@Test
+	void tokensWithoutUseClaimAreClassifiedByLifetime() {
+		Instant issued = Instant.now().minusSeconds(10);
+
+		JwtUtil.VerifiedToken shortLived = jwtUtil.verify(legacyToken(issued, issued.plusSeconds(3600)));
+		JwtUtil.VerifiedToken longLived = jwtUtil.verify(legacyToken(issued, issued.plusSeconds(1209600)));
+
+		assertThat(shortLived.isAccessToken()).isTrue();
+		assertThat(longLived.isAccessToken()).isFalse();
+	}
+
+	private static String legacyToken(Instant issuedAt, Instant expiresAt) {
+		return Jwts.builder()
+				.setSubject(UUID.randomUUID().toString())
+				.setIssuedAt(Date.from(issuedAt))
+				.setExpiration(Date.from(expiresAt))
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.compact();
+	}
+}
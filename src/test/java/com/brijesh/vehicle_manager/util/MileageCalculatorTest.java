@@ -0,0 +1,180 @@
+package com.brijesh.vehicle_manager.util;
+
+import com.brijesh.vehicle_manager.entity.FuelFill;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MileageCalculator promises results bit-identical to MileageUtil (value and scale), so every case compares
+ * with isEqualTo rather than isEqualByComparingTo.
+ */
+class MileageCalculatorTest {
+
+	private static final int RANDOM_CASES = 20_000;
+
+	// fixed seed: a failure reproduces
+	private final Random random = new Random(20260908L);
+
+	@Test
+	void computeMileageMatchesMileageUtilOnRandomInputs() {
+		for (int i = 0; i < RANDOM_CASES; i++) {
+			long distance = random.nextInt(2_000_001) - 1_000;
+			BigDecimal liters = scaled(1 + random.nextInt(200_000), 3);
+			assertThat(MileageCalculator.computeMileage(distance, liters))
+					.as("%d km / %s l", distance, liters)
+					.isEqualTo(MileageUtil.computeMileage(distance, liters));
+		}
+	}
+
+	@Test
+	void multiplyMatchesMileageUtilOnRandomInputs() {
+		for (int i = 0; i < RANDOM_CASES; i++) {
+			BigDecimal liters = scaled(random.nextInt(200_000), 3);
+			BigDecimal price = scaled(random.nextInt(100_000), 2);
+			assertThat(MileageCalculator.multiply(liters, price))
+					.as("%s l x %s", liters, price)
+					.isEqualTo(MileageUtil.multiply(liters, price));
+		}
+	}
+
+	@Test
+	void costPerKmMatchesStatsRoundingOnRandomInputs() {
+		for (int i = 0; i < RANDOM_CASES; i++) {
+			BigDecimal cost = scaled(random.nextLong(100_000_000_000L), 2);
+			long distance = 1 + random.nextInt(1_000_000);
+			assertThat(MileageCalculator.costPerKm(cost, distance))
+					.as("%s / %d km", cost, distance)
+					.isEqualTo(cost.divide(BigDecimal.valueOf(distance), 6, RoundingMode.HALF_UP)
+							.setScale(2, RoundingMode.HALF_UP));
+		}
+	}
+
+	@Test
+	void estimateVolumeMatchesBigDecimalRoundingOnRandomInputs() {
+		for (int i = 0; i < RANDOM_CASES; i++) {
+			long distance = random.nextInt(2_000_001) - 1_000;
+			BigDecimal mileage = scaled(1 + random.nextInt(40_000), 3);
+			assertThat(MileageCalculator.estimateVolume(distance, mileage))
+					.as("%d km at %s km/l", distance, mileage)
+					.isEqualTo(volumeByBigDecimal(distance, mileage));
+		}
+	}
+
+	@Test
+	void rollingAveragesMatchMileageUtilOnRandomWindows() {
+		for (int i = 0; i < 2_000; i++) {
+			// already filtered to positive values, newest first, as the repository queries return them
+			List<FuelFill> window = new ArrayList<>();
+			int n = 1 + random.nextInt(12);
+			for (int j = 0; j < n; j++) {
+				window.add(FuelFill.builder()
+						.fillDate(LocalDate.of(2026, 1, 1).minusDays(j))
+						.mileage(scaled(1 + random.nextInt(40_000), 3))
+						.pricePerLiter(scaled(1 + random.nextInt(20_000), 2))
+						.build());
+			}
+			int size = 1 + random.nextInt(15);
+			assertThat(MileageCalculator.rollingAvgMileage(window, size))
+					.isEqualTo(MileageUtil.rollingAvgMileage(window, size));
+			assertThat(MileageCalculator.rollingAvgPrice(window, size))
+					.isEqualTo(MileageUtil.rollingAvgPrice(window, size));
+		}
+	}
+
+	@Test
+	void edgeInputs() {
+		// zero distance
+		assertThat(MileageCalculator.computeMileage(0, new BigDecimal("30.000")))
+				.isEqualTo(MileageUtil.computeMileage(0, new BigDecimal("30.000")))
+				.isEqualTo(new BigDecimal("0.000"));
+		// zero, negative and missing volume
+		assertThat(MileageCalculator.computeMileage(500, BigDecimal.ZERO)).isNull();
+		assertThat(MileageCalculator.computeMileage(500, new BigDecimal("0.000"))).isNull();
+		assertThat(MileageCalculator.computeMileage(500, new BigDecimal("-1.5"))).isNull();
+		assertThat(MileageCalculator.computeMileage(500, null)).isNull();
+		assertThat(MileageCalculator.multiply(null, BigDecimal.ONE)).isNull();
+		assertThat(MileageCalculator.multiply(BigDecimal.ONE, null)).isNull();
+		assertThat(MileageCalculator.multiply(BigDecimal.ZERO, new BigDecimal("101.50")))
+				.isEqualTo(MileageUtil.multiply(BigDecimal.ZERO, new BigDecimal("101.50")));
+		// repeating quotient, negative distance (odometer corrections), half-paise product
+		assertThat(MileageCalculator.computeMileage(1, new BigDecimal("0.003")))
+				.isEqualTo(MileageUtil.computeMileage(1, new BigDecimal("0.003")));
+		assertThat(MileageCalculator.computeMileage(-7, new BigDecimal("0.008")))
+				.isEqualTo(MileageUtil.computeMileage(-7, new BigDecimal("0.008")));
+		assertThat(MileageCalculator.multiply(new BigDecimal("0.005"), new BigDecimal("1.00")))
+				.isEqualTo(MileageUtil.multiply(new BigDecimal("0.005"), new BigDecimal("1.00")))
+				.isEqualTo(new BigDecimal("0.01"));
+		// no usable mileage to estimate from
+		assertThat(MileageCalculator.estimateVolume(500, null)).isNull();
+		assertThat(MileageCalculator.estimateVolume(500, new BigDecimal("0.000"))).isNull();
+		assertThat(MileageCalculator.estimateVolume(500, new BigDecimal("-12.5"))).isNull();
+		// nothing to average
+		assertThat(MileageCalculator.rollingAvgMileage(List.of(), 5)).isNull();
+		assertThat(MileageCalculator.rollingAvgPrice(null, 5)).isNull();
+	}
+
+	@Test
+	void fallsBackToMileageUtilWhenScaledArithmeticCannotBeExact() {
+		// more decimals than millilitres / paise
+		BigDecimal fineLiters = new BigDecimal("12.3456");
+		BigDecimal finePrice = new BigDecimal("101.555");
+		assertThat(MileageCalculator.computeMileage(400, fineLiters))
+				.isEqualTo(MileageUtil.computeMileage(400, fineLiters));
+		assertThat(MileageCalculator.multiply(fineLiters, finePrice))
+				.isEqualTo(MileageUtil.multiply(fineLiters, finePrice));
+		assertThat(MileageCalculator.costPerKm(new BigDecimal("10.005"), 3))
+				.isEqualTo(new BigDecimal("10.005").divide(BigDecimal.valueOf(3), 6, RoundingMode.HALF_UP)
+						.setScale(2, RoundingMode.HALF_UP));
+
+		assertThat(MileageCalculator.estimateVolume(400, new BigDecimal("12.3456")))
+				.isEqualTo(volumeByBigDecimal(400, new BigDecimal("12.3456")));
+
+		// overflow of the scaled long products
+		long hugeDistance = Long.MAX_VALUE / 1_000;
+		assertThat(MileageCalculator.computeMileage(hugeDistance, new BigDecimal("3.000")))
+				.isEqualTo(MileageUtil.computeMileage(hugeDistance, new BigDecimal("3.000")));
+		BigDecimal hugeLiters = new BigDecimal("9223372036854775.807");
+		assertThat(MileageCalculator.estimateVolume(hugeDistance, new BigDecimal("3.000")))
+				.isEqualTo(volumeByBigDecimal(hugeDistance, new BigDecimal("3.000")));
+		assertThat(MileageCalculator.multiply(hugeLiters, new BigDecimal("99.99")))
+				.isEqualTo(MileageUtil.multiply(hugeLiters, new BigDecimal("99.99")));
+		BigDecimal hugeCost = new BigDecimal("92233720368547758.07");
+		assertThat(MileageCalculator.costPerKm(hugeCost, 7))
+				.isEqualTo(hugeCost.divide(BigDecimal.valueOf(7), 6, RoundingMode.HALF_UP)
+						.setScale(2, RoundingMode.HALF_UP));
+
+		List<FuelFill> fine = List.of(
+				FuelFill.builder().fillDate(LocalDate.of(2026, 2, 1)).mileage(new BigDecimal("15.1234"))
+						.pricePerLiter(new BigDecimal("100.001")).build(),
+				FuelFill.builder().fillDate(LocalDate.of(2026, 1, 1)).mileage(new BigDecimal("14.5"))
+						.pricePerLiter(new BigDecimal("99.5")).build());
+		assertThat(MileageCalculator.rollingAvgMileage(fine, 5)).isEqualTo(MileageUtil.rollingAvgMileage(fine, 5));
+		assertThat(MileageCalculator.rollingAvgPrice(fine, 5)).isEqualTo(MileageUtil.rollingAvgPrice(fine, 5));
+	}
+
+	@Test
+	void divHalfUpRoundsTiesAwayFromZero() {
+		assertThat(MileageCalculator.divHalfUp(5, 2)).isEqualTo(3);
+		assertThat(MileageCalculator.divHalfUp(-5, 2)).isEqualTo(-3);
+		assertThat(MileageCalculator.divHalfUp(4, 3)).isEqualTo(1);
+		assertThat(MileageCalculator.divHalfUp(-4, 3)).isEqualTo(-1);
+		assertThat(MileageCalculator.divHalfUp(0, 7)).isZero();
+	}
+
+	// the BigDecimal expression FuelFillServiceImpl used before estimateVolume
+	private static BigDecimal volumeByBigDecimal(long distance, BigDecimal mileage) {
+		return BigDecimal.valueOf(distance).divide(mileage, 6, RoundingMode.HALF_UP).setScale(3, RoundingMode.HALF_UP);
+	}
+
+	private static BigDecimal scaled(long unscaled, int scale) {
+		return BigDecimal.valueOf(unscaled, scale);
+	}
+}
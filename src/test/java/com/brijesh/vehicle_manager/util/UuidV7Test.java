@@ -0,0 +1,59 @@
+package com.brijesh.vehicle_manager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+	@Test
+	void bitLayoutFollowsRfc9562() {
+		long millis = 0x0192_3456_789AL;
+		for (int i = 0; i < 1_000; i++) {
+			UUID id = UuidV7.at(millis);
+			assertThat(id.version()).isEqualTo(7);
+			assertThat(id.variant()).isEqualTo(2);
+			assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(millis);
+		}
+		// the timestamp is the first 12 hex digits of the textual form
+		assertThat(UuidV7.at(millis).toString()).startsWith("01923456-789a-7");
+	}
+
+	@Test
+	void randomBitsDifferWithinOneMillisecond() {
+		Set<UUID> ids = new HashSet<>();
+		for (int i = 0; i < 10_000; i++) {
+			ids.add(UuidV7.at(1_700_000_000_000L));
+		}
+		assertThat(ids).hasSize(10_000);
+	}
+
+	@Test
+	void binaryFormSortsByTime() {
+		// BINARY(16) columns compare bytes unsigned, big-endian
+		byte[] previous = null;
+		for (long millis = 1_700_000_000_000L; millis < 1_700_000_000_000L + 500; millis++) {
+			byte[] current = bytes(UuidV7.at(millis));
+			if (previous != null) assertThat(Arrays.compareUnsigned(previous, current)).isNegative();
+			previous = current;
+		}
+	}
+
+	@Test
+	void generateUsesTheCurrentTime() {
+		long before = System.currentTimeMillis();
+		UUID id = UuidV7.generate();
+		long after = System.currentTimeMillis();
+		assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after);
+	}
+
+	private static byte[] bytes(UUID id) {
+		return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+	}
+}